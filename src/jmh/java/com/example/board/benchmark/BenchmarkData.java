@@ -0,0 +1,89 @@
+package com.example.board.benchmark;
+
+import com.example.board.BoardApplication;
+import com.example.board.IdSequenceAligner;
+import com.example.board.Question.QuestionCountProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// 벤치마크가 함께 사용하는 애플리케이션 컨텍스트와 데이터입니다.
+// 포크(JVM)마다 한 번 bench 프로파일(메모리 H2)로 애플리케이션을 띄우고 실제 규모의 데이터를 SQL 로 직접 넣습니다.
+// 크기는 시스템 프로퍼티로 바꿀 수 있습니다. 예) gradle jmh -Dboard.bench.questions=100000
+//   board.bench.questions             질문 수 (기본 1,000,000)
+//   board.bench.answers-per-question  질문마다 달리는 답변 수 (기본 10, 합계 10,000,000)
+//   board.bench.heavy-answers         HEAVY_QUESTION_ID 질문에 추가로 달리는 답변 수 (기본 10,000)
+//   board.bench.users                 사용자 수 (기본 10,000)
+public final class BenchmarkData {
+
+    private static final Logger log = LoggerFactory.getLogger(BenchmarkData.class);
+
+    public static final int QUESTIONS = Integer.getInteger("board.bench.questions", 1_000_000);
+    public static final int ANSWERS_PER_QUESTION = Integer.getInteger("board.bench.answers-per-question", 10);
+    public static final int HEAVY_ANSWERS = Integer.getInteger("board.bench.heavy-answers", 10_000);
+    public static final int USERS = Integer.getInteger("board.bench.users", 10_000);
+
+    // 답변이 많이 달린 질문 (가장 오래된 질문)
+    public static final int HEAVY_QUESTION_ID = 1;
+
+    // 모든 벤치마크 사용자의 비밀번호
+    public static final String PASSWORD = "bench-password";
+
+    // 한 번의 INSERT ... SELECT 로 넣을 최대 행 수 (트랜잭션 하나가 너무 커지지 않도록)
+    private static final int CHUNK = 500_000;
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkData() {
+    }
+
+    public static synchronized ConfigurableApplicationContext context() {
+        if (context == null) {
+            context = new SpringApplicationBuilder(BoardApplication.class).profiles("bench").run();
+            seed(context);
+        }
+        return context;
+    }
+
+    public static String username(int n) {
+        return "bench-user-" + n;
+    }
+
+    private static void seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        long started = System.nanoTime();
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        insertChunked(jdbc, USERS, "insert into site_user (id, username, email, password) "
+                + "select x, 'bench-user-' || x, 'bench-user-' || x || '@example.com', '" + passwordHash + "' "
+                + "from system_range(?, ?)");
+        // 작성일시는 ID 순서대로 1초씩 늘어나므로 ID 가 클수록 최신 질문입니다.
+        insertChunked(jdbc, QUESTIONS, "insert into question (id, subject, content, create_date, author_id, answer_count) "
+                + "select x, '벤치마크 질문 ' || x, '질문 본문입니다. ' || repeat('게시판 성능 측정용 문장. ', 10), "
+                + "dateadd(second, x, timestamp '2020-01-01 00:00:00'), mod(x, " + USERS + ") + 1, " + ANSWERS_PER_QUESTION + " "
+                + "from system_range(?, ?)");
+        long answers = (long) QUESTIONS * ANSWERS_PER_QUESTION;
+        insertChunked(jdbc, answers, "insert into answer (id, content, create_date, question_id, author_id) "
+                + "select x, '답변 본문입니다. ' || repeat('측정용 답변 문장. ', 5), "
+                + "dateadd(second, x, timestamp '2020-01-01 00:00:00'), mod(x - 1, " + QUESTIONS + ") + 1, mod(x, " + USERS + ") + 1 "
+                + "from system_range(?, ?)");
+        jdbc.update("insert into answer (id, content, create_date, question_id, author_id) "
+                        + "select x, '긴 스레드 답변 ' || x, dateadd(second, x, timestamp '2021-01-01 00:00:00'), ?, mod(x, ?) + 1 "
+                        + "from system_range(?, ?)",
+                HEAVY_QUESTION_ID, USERS, answers + 1, answers + HEAVY_ANSWERS);
+        jdbc.update("update question set answer_count = answer_count + ? where id = ?", HEAVY_ANSWERS, HEAVY_QUESTION_ID);
+        // SQL 로 직접 넣었으므로 시퀀스와 전체 개수를 다시 맞춥니다.
+        context.getBean(IdSequenceAligner.class).afterPropertiesSet();
+        context.getBean(QuestionCountProvider.class).resync();
+        log.info("seeded {} users, {} questions, {} answers in {} s", USERS, QUESTIONS, answers + HEAVY_ANSWERS,
+                (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    private static void insertChunked(JdbcTemplate jdbc, long rows, String sql) {
+        for (long from = 1; from <= rows; from += CHUNK) {
+            jdbc.update(sql, from, Math.min(rows, from + CHUNK - 1));
+        }
+    }
+}
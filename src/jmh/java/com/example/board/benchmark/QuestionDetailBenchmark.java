@@ -0,0 +1,48 @@
+package com.example.board.benchmark;
+
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionDetail;
+import com.example.board.Question.QuestionDetailCache;
+import com.example.board.Question.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// 답변이 많이 달린 질문(BenchmarkData.HEAVY_QUESTION_ID)의 상세 조회 시간을 측정합니다.
+// 상세 스냅샷을 DB 에서 만드는 경우(캐시 무효화 후)와 캐시에서 가져오는 경우를 비교합니다.
+@State(Scope.Benchmark)
+public class QuestionDetailBenchmark {
+
+    // 답변 페이지 번호 (앞쪽 / 깊은 페이지)
+    @Param({"0", "100"})
+    private int answerPage;
+
+    private QuestionService questionService;
+    private QuestionDetailCache questionDetailCache;
+
+    @Setup
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkData.context();
+        this.questionService = context.getBean(QuestionService.class);
+        this.questionDetailCache = context.getBean(QuestionDetailCache.class);
+    }
+
+    @Benchmark
+    public Question getQuestion() {
+        return this.questionService.getQuestion(BenchmarkData.HEAVY_QUESTION_ID);
+    }
+
+    @Benchmark
+    public QuestionDetail getQuestionDetailUncached() {
+        this.questionDetailCache.invalidate(BenchmarkData.HEAVY_QUESTION_ID);
+        return this.questionService.getQuestionDetail(BenchmarkData.HEAVY_QUESTION_ID, this.answerPage);
+    }
+
+    @Benchmark
+    public QuestionDetail getQuestionDetailCached() {
+        return this.questionService.getQuestionDetail(BenchmarkData.HEAVY_QUESTION_ID, this.answerPage);
+    }
+}
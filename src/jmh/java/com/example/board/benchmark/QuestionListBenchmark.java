@@ -0,0 +1,44 @@
+package com.example.board.benchmark;
+
+import com.example.board.Question.QuestionCursor;
+import com.example.board.Question.QuestionCursorPage;
+import com.example.board.Question.QuestionListItem;
+import com.example.board.Question.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+
+// 질문 목록 조회 시간을 페이지 깊이별로 측정합니다.
+// 같은 위치를 번호 페이징(getList, OFFSET)과 커서 페이징(getListBefore)으로 각각 읽어 비교합니다.
+@State(Scope.Benchmark)
+public class QuestionListBenchmark {
+
+    // 페이지 번호 (페이지당 10건)
+    @Param({"0", "100", "10000"})
+    private int page;
+
+    private QuestionService questionService;
+    private QuestionCursor cursor; // page 번호 페이지의 바로 앞 행을 가리키는 커서 (첫 페이지는 null)
+
+    @Setup
+    public void setUp() {
+        this.questionService = BenchmarkData.context().getBean(QuestionService.class);
+        if (this.page > 0) {
+            Page<QuestionListItem> previous = this.questionService.getList(this.page - 1);
+            this.cursor = QuestionCursor.of(previous.getContent().get(previous.getNumberOfElements() - 1));
+        }
+    }
+
+    @Benchmark
+    public Page<QuestionListItem> getList() {
+        return this.questionService.getList(this.page);
+    }
+
+    @Benchmark
+    public QuestionCursorPage getListBefore() {
+        return this.questionService.getListBefore(this.cursor);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.board.benchmark;
+
+import com.example.board.Answer.AnswerForm;
+import com.example.board.Question.QuestionCursor;
+import com.example.board.Question.QuestionDetail;
+import com.example.board.Question.QuestionListItem;
+import com.example.board.Question.QuestionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Page;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.support.RequestContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext;
+import org.thymeleaf.spring6.naming.SpringContextVariableNames;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// 질문 목록/상세 템플릿의 렌더링 시간을 측정합니다. (DB 조회 없이 미리 만든 모델로 렌더링만 수행)
+// ThymeleafView 가 하는 것처럼 요청 컨텍스트(RequestContext)와 평가 컨텍스트를 넣어 실제 화면과 같은 경로로 렌더링합니다.
+@State(Scope.Benchmark)
+public class RenderingBenchmark {
+
+    private SpringTemplateEngine templateEngine;
+    private WebApplicationContext applicationContext;
+    private MockServletContext servletContext;
+    private JakartaServletWebApplication application;
+    private ThymeleafEvaluationContext evaluationContext;
+
+    private Map<String, Object> listModel;
+    private Map<String, Object> detailModel;
+
+    @Setup
+    public void setUp() {
+        this.applicationContext = (WebApplicationContext) BenchmarkData.context();
+        this.templateEngine = this.applicationContext.getBean(SpringTemplateEngine.class);
+        this.servletContext = new MockServletContext();
+        this.servletContext.setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, this.applicationContext);
+        this.application = JakartaServletWebApplication.buildApplication(this.servletContext);
+        this.evaluationContext = new ThymeleafEvaluationContext(this.applicationContext,
+                this.applicationContext.getBean("mvcConversionService", ConversionService.class));
+        // 비로그인 사용자로 렌더링합니다. (벤치마크 스레드가 설정 스레드와 다를 수 있으므로 전역 모드 사용)
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("bench", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        // QuestionController 가 만드는 모델과 같은 값 (목록은 렌더링 캐시를 쓰지 않는 경우)
+        QuestionService questionService = this.applicationContext.getBean(QuestionService.class);
+        Page<QuestionListItem> paging = questionService.getList(0);
+        this.listModel = new HashMap<>();
+        this.listModel.put("kw", "");
+        this.listModel.put("questionList", paging.getContent());
+        this.listModel.put("paging", paging);
+        this.listModel.put("lastNumberedPage", Math.min(paging.getTotalPages(), QuestionService.MAX_NUMBERED_PAGES) - 1);
+        this.listModel.put("nextCursor", QuestionCursor.of(paging.getContent().get(paging.getNumberOfElements() - 1)).toString());
+
+        QuestionDetail question = questionService.getQuestionDetail(BenchmarkData.HEAVY_QUESTION_ID, 0);
+        this.detailModel = new HashMap<>();
+        this.detailModel.put("question", question);
+        this.detailModel.put("answerPaging", question.getAnswerPaging());
+        this.detailModel.put("answerForm", new AnswerForm());
+    }
+
+    @Benchmark
+    public String renderQuestionList() {
+        return render("question_list", "/question/list", this.listModel);
+    }
+
+    @Benchmark
+    public String renderQuestionDetail() {
+        return render("question_detail", "/question/detail/" + BenchmarkData.HEAVY_QUESTION_ID, this.detailModel);
+    }
+
+    private String render(String template, String uri, Map<String, Object> model) {
+        MockHttpServletRequest request = new MockHttpServletRequest(this.servletContext, "GET", uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.setAttribute(DispatcherServlet.WEB_APPLICATION_CONTEXT_ATTRIBUTE, this.applicationContext);
+        WebContext context = new WebContext(this.application.buildExchange(request, response), Locale.KOREAN, model);
+        context.setVariable(ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME, this.evaluationContext);
+        context.setVariable(SpringContextVariableNames.SPRING_REQUEST_CONTEXT,
+                new RequestContext(request, response, this.servletContext, model));
+        return this.templateEngine.process(template, context);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.board.benchmark;
+
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserCache;
+import com.example.board.user.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 글쓴이 조회(UserService.getUser)와 비밀번호 해시(BCrypt) 시간을 측정합니다.
+@State(Scope.Benchmark)
+public class UserServiceBenchmark {
+
+    private UserService userService;
+    private UserCache userCache;
+    private PasswordEncoder passwordEncoder;
+    private String passwordHash;
+
+    @Setup
+    public void setUp() {
+        ConfigurableApplicationContext context = BenchmarkData.context();
+        this.userService = context.getBean(UserService.class);
+        this.userCache = context.getBean(UserCache.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.passwordHash = this.passwordEncoder.encode(BenchmarkData.PASSWORD);
+    }
+
+    // 캐시에 있는 사용자 (로그인한 사용자가 글을 쓰는 일반적인 경우)
+    @Benchmark
+    public SiteUser getUserCached() {
+        return this.userService.getUser(BenchmarkData.username(1));
+    }
+
+    // 캐시에 없는 사용자 (DB 조회)
+    @Benchmark
+    public SiteUser getUserUncached() {
+        String username = BenchmarkData.username(ThreadLocalRandom.current().nextInt(BenchmarkData.USERS) + 1);
+        this.userCache.invalidate(username);
+        return this.userService.getUser(username);
+    }
+
+    @Benchmark
+    public String encodePassword() {
+        return this.passwordEncoder.encode(BenchmarkData.PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matchPassword() {
+        return this.passwordEncoder.matches(BenchmarkData.PASSWORD, this.passwordHash);
+    }
+}
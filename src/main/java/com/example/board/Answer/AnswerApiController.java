@@ -0,0 +1,82 @@
+package com.example.board.Answer;
+
+import com.example.board.ApiPageWriter;
+import com.example.board.Question.QuestionCursor;
+import com.example.board.Question.QuestionService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+// 질문의 답변 목록 JSON API 입니다. 답변 한 페이지를 작성순으로 읽고 DB 연결을 돌려준 뒤 JSON 으로 써서 응답합니다.
+// 예) GET /api/questions/42/answers?size=50&fields=id,content  ->  {"items":[...],"nextCursor":"..."}
+//     GET /api/questions/42/answers?after=2024-06-01T10:15:30.123,7  (다음 페이지)
+//     GET /api/questions/42/answers/events  (새 답변/수정/삭제를 SSE 로 계속 받음, AnswerLiveUpdates 참고)
+@RequestMapping("/api/questions/{questionId}/answers")
+@RequiredArgsConstructor
+@RestController
+public class AnswerApiController {
+
+    // 한 번에 요청할 수 있는 최대 항목 수
+    static final int MAX_SIZE = 100;
+
+    private static final ApiPageWriter<AnswerItem> PAGE_WRITER =
+            new ApiPageWriter<AnswerItem>(item -> new QuestionCursor(item.getCreateDate(), item.getId()).toString())
+                    .field("id", (json, a) -> json.writeNumber(a.getId()))
+                    .field("content", (json, a) -> json.writeString(a.getContent()))
+                    .field("authorName", (json, a) -> json.writeString(a.getAuthorName()))
+                    .field("createDate", (json, a) -> json.writeObject(a.getCreateDate()))
+                    .field("modifyDate", (json, a) -> json.writeObject(a.getModifyDate()));
+
+    private final QuestionService questionService;
+    private final AnswerService answerService;
+    private final ObjectMapper objectMapper;
+    private final AnswerLiveUpdates answerLiveUpdates;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(@PathVariable("questionId") Integer questionId,
+                                                      @RequestParam(value = "after", required = false) String after,
+                                                      @RequestParam(value = "size", defaultValue = "20") int size,
+                                                      @RequestParam(value = "fields", required = false) String fields) {
+        // 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 요청 값과 질문 존재 여부는 미리 검사합니다.
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_SIZE);
+        }
+        QuestionCursor cursor;
+        List<String> selected;
+        try {
+            cursor = after != null ? QuestionCursor.parse(after) : null;
+            selected = PAGE_WRITER.select(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        this.questionService.checkExists(questionId); // 질문이 없으면 404
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회합니다.
+        List<AnswerItem> rows = this.answerService.getApiAnswers(questionId, cursor, size + 1);
+        StreamingResponseBody body = out -> {
+            JsonGenerator json = this.objectMapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            PAGE_WRITER.write(json, rows.iterator(), size, selected);
+            json.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 질문의 답변 변경을 text/event-stream 으로 구독합니다. 응답은 연결이 끊기거나 시간이 지날 때까지 열려 있습니다.
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable("questionId") Integer questionId) {
+        this.questionService.checkExists(questionId); // 질문이 없으면 404
+        return this.answerLiveUpdates.subscribe(questionId);
+    }
+}
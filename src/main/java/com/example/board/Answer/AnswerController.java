@@ -1,6 +1,6 @@
 package com.example.board.Answer;
 
-import com.example.board.Question.Question;
+import com.example.board.Question.QuestionDetail;
 import com.example.board.Question.QuestionService;
 import com.example.board.user.SiteUser;
 import com.example.board.user.UserService;
@@ -36,17 +36,17 @@ public class AnswerController {
     @PostMapping("/create/{id}") // POST 요청을 처리하며, URL 경로의 {id} 변수를 매핑합니다.
     public String createAnswer(Model model, @PathVariable("id") Integer id, @Valid AnswerForm answerForm,
                                BindingResult bindingResult, Principal principal) {
-        // 질문 ID에 해당하는 질문 객체를 가져옵니다.
-        Question question = this.questionService.getQuestion(id);
-        // 현재 로그인한 사용자 정보를 가져옵니다.
-        SiteUser siteUser = this.userService.getUser(principal.getName());
         // 폼 검증에서 오류가 발생한 경우
         if (bindingResult.hasErrors()) {
-            model.addAttribute("question", question); // 모델에 질문 정보를 추가합니다.
+            QuestionDetail questionDetail = this.questionService.getQuestionDetail(id, 0); // 질문과 답변 첫 페이지
+            model.addAttribute("question", questionDetail); // 모델에 질문 정보를 추가합니다.
+            model.addAttribute("answerPaging", questionDetail.getAnswerPaging()); // 답변 첫 페이지를 추가합니다.
             return "question_detail"; // 폼 오류 시 질문 상세 페이지로 돌아갑니다.
         }
-        // 답변을 생성합니다.
-        this.answerService.create(question, answerForm.getContent(), siteUser);
+        // 현재 로그인한 사용자의 참조를 가져옵니다. (캐시된 ID 사용, DB 조회 없음)
+        SiteUser siteUser = this.userService.getUser(principal.getName());
+        // 답변을 생성합니다. 질문은 ID 로만 연결하며, 질문이 없으면 404 를 반환합니다.
+        this.answerService.create(id, answerForm.getContent(), siteUser);
         // 질문 상세 페이지로 리다이렉트합니다.
         return String.format("redirect:/question/detail/%s", id);
     }
@@ -77,33 +77,27 @@ public class AnswerController {
         if (bindingResult.hasErrors()) {
             return "answer_form"; // 폼 오류 시 답변 수정 페이지로 돌아갑니다.
         }
-        // 답변 ID에 해당하는 답변 객체를 가져옵니다.
-        Answer answer = this.answerService.getAnswer(id);
-        // 현재 사용자가 답변의 작성자인지 확인합니다.
-        if (!answer.getAuthor().getUsername().equals(principal.getName())) {
-            // 작성자가 아닌 경우 예외를 발생시킵니다.
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수정권한이 없습니다.");
-        }
+        // 답변을 읽지 않고 작성자인지 확인하면서 답변이 속한 질문 ID를 가져옵니다.
+        Integer questionId = this.answerService.findQuestionIdIfAuthor(id, principal.getName())
+                // 작성자가 아닌 경우 예외를 발생시킵니다.
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "수정권한이 없습니다."));
         // 답변 내용을 수정합니다.
-        this.answerService.modify(answer, answerForm.getContent());
+        this.answerService.modify(id, questionId, answerForm.getContent());
         // 수정된 답변의 질문 상세 페이지로 리다이렉트합니다.
-        return String.format("redirect:/question/detail/%s", answer.getQuestion().getId());
+        return String.format("redirect:/question/detail/%s", questionId);
     }
 
     // 인증된 사용자만 접근할 수 있도록 설정합니다.
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/delete/{id}") // GET 요청을 처리하며, URL 경로의 {id} 변수를 매핑합니다.
     public String answerDelete(Principal principal, @PathVariable("id") Integer id) {
-        // 답변 ID에 해당하는 답변 객체를 가져옵니다.
-        Answer answer = this.answerService.getAnswer(id);
-        // 현재 사용자가 답변의 작성자인지 확인합니다.
-        if (!answer.getAuthor().getUsername().equals(principal.getName())) {
-            // 작성자가 아닌 경우 예외를 발생시킵니다.
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "삭제권한이 없습니다.");
-        }
+        // 답변을 읽지 않고 작성자인지 확인하면서 답변이 속한 질문 ID를 가져옵니다.
+        Integer questionId = this.answerService.findQuestionIdIfAuthor(id, principal.getName())
+                // 작성자가 아닌 경우 예외를 발생시킵니다.
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "삭제권한이 없습니다."));
         // 답변을 삭제합니다.
-        this.answerService.delete(answer);
+        this.answerService.delete(id, questionId);
         // 삭제된 답변의 질문 상세 페이지로 리다이렉트합니다.
-        return String.format("redirect:/question/detail/%s", answer.getQuestion().getId());
+        return String.format("redirect:/question/detail/%s", questionId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.example.board.Answer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 질문 상세 화면에 보여줄 답변의 변경 불가능한 스냅샷입니다. (캐시에 그대로 보관됩니다.)
+@Getter
+@AllArgsConstructor
+public class AnswerDetail {
+    private final Integer id; // 답변 ID
+    private final String content; // 답변 내용
+    private final String authorName; // 작성자 이름 (작성자가 없으면 null)
+    private final LocalDateTime createDate; // 작성일시
+    private final LocalDateTime modifyDate; // 수정일시
+
+    // 답변 엔티티로부터 스냅샷을 만듭니다.
+    public static AnswerDetail of(Answer answer) {
+        String authorName = answer.getAuthor() != null ? answer.getAuthor().getUsername() : null;
+        return new AnswerDetail(answer.getId(), answer.getContent(), authorName,
+                answer.getCreateDate(), answer.getModifyDate());
+    }
+}
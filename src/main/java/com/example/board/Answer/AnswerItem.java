@@ -0,0 +1,17 @@
+package com.example.board.Answer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// JSON API 의 답변 목록 조회 모델입니다. (엔티티 대신 필요한 값만 조회)
+@Getter
+@AllArgsConstructor // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자입니다.
+public class AnswerItem {
+    private final Integer id; // 답변 ID
+    private final String content; // 답변 내용
+    private final String authorName; // 작성자 이름 (작성자가 없으면 null)
+    private final LocalDateTime createDate; // 작성일시
+    private final LocalDateTime modifyDate; // 수정일시
+}
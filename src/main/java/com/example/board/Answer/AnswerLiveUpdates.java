@@ -0,0 +1,341 @@
+package com.example.board.Answer;
+
+import com.example.board.event.BoardEvent;
+import com.example.board.event.BoardEventHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 질문 상세 화면에 새 답변/수정된 답변을 실시간으로 보내는 SSE(Server-Sent Events) 구독 관리자입니다.
+// 연결된 브라우저는 요청 스레드를 잡고 있지 않고(비동기 요청) 구독자마다 작은 대기열만 가지므로
+// 유휴 연결이 많아도 메모리가 연결 수에 비례해 조금씩만 늘어납니다.
+// AnswerService 의 쓰기 이벤트를 커밋 후에 받아(BoardEventHandler) 이벤트를 한 번만 만들어(JSON 직렬화 1번) 구독자 대기열에 넣고,
+// 실제 전송은 전용 스레드 몇 개가 구독자별로 차례대로 처리합니다. 쓰기 요청은 전송을 기다리지 않습니다.
+// 대기열이 가득 찬(읽지 못하는) 구독자는 연결을 끊으며, 브라우저(EventSource)가 다시 연결합니다.
+// 전송은 소켓에 쓸 때까지 기다리는(blocking) 쓰기이므로, 읽지 않는 클라이언트 하나가 전송 스레드를 붙잡을 수 있습니다.
+// 그래서 send-timeout 보다 오래 걸리는 전송은 주기적으로 찾아 그 구독자를 내보내고(더 이상 이벤트를 넣지 않음),
+// 붙잡힌 스레드 대신 일할 스레드를 하나 더 띄워서 다른 구독자의 전송이 멈추지 않게 합니다.
+// 붙잡힌 스레드는 컨테이너의 쓰기 시간 제한(server.tomcat.connection-timeout)으로 전송이 끝나면 연결을 닫고 돌아오며,
+// 그때 늘린 스레드 수를 되돌립니다. 추가 스레드는 최대 max-stuck-senders 개까지만 띄웁니다.
+// 메트릭: board.live.subscribers, board.live.events.sent, board.live.dropped, board.live.send-timeouts
+@Slf4j
+@Component
+public class AnswerLiveUpdates implements BoardEventHandler, MeterBinder {
+
+    // 이벤트 이름 (question_detail.html 의 EventSource 에서 사용)
+    static final String EVENT_ANSWER = "answer";
+    static final String EVENT_ANSWER_DELETED = "answer-deleted";
+
+    // 시간 제한을 넘겨 내보낸 전송의 sendStarted 값
+    private static final long TIMED_OUT = -1;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final AnswerRepository answerRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers; // 이 서버에서 받을 최대 구독자 수
+    private final int queueCapacity; // 구독자별로 보내지 못하고 쌓아 둘 수 있는 이벤트 수
+    private final long timeoutMillis; // 연결 유지 시간 (지나면 브라우저가 다시 연결)
+    private final long sendTimeoutMillis; // 이벤트 하나를 보내는 데 허용하는 시간
+    private final int threads; // 기본 전송 스레드 수
+    private final int maxStuckSenders; // 붙잡힌 스레드를 대신할 추가 스레드의 최대 수
+
+    // 질문 ID -> 구독자 목록
+    private final Map<Integer, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor dispatcher;
+    // 지금 전송 중인 구독자 (전송 스레드 수 + 붙잡힌 전송 수 만큼만 들어 있음)
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger stuckSenders = new AtomicInteger(); // 시간 제한을 넘겨 스레드를 붙잡고 있는 전송 수
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sendTimeouts = new LongAdder();
+
+    public AnswerLiveUpdates(AnswerRepository answerRepository, ObjectMapper objectMapper,
+                             @Value("${board.live.max-subscribers:20000}") int maxSubscribers,
+                             @Value("${board.live.queue-capacity:16}") int queueCapacity,
+                             @Value("${board.live.timeout:30m}") Duration timeout,
+                             @Value("${board.live.threads:2}") int threads,
+                             @Value("${board.live.send-timeout:10s}") Duration sendTimeout,
+                             @Value("${board.live.max-stuck-senders:32}") int maxStuckSenders) {
+        this.answerRepository = answerRepository;
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+        this.threads = threads;
+        this.maxStuckSenders = maxStuckSenders;
+        // 구독자마다 전송 작업은 최대 1개만 대기하므로 작업 대기열은 구독자 수를 넘지 않습니다.
+        AtomicInteger sequence = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "answer-live-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 질문의 답변 변경을 구독합니다. 구독자가 최대 수에 도달하면 503 을 반환합니다.
+    public SseEmitter subscribe(Integer questionId) {
+        return subscribe(questionId, new SseEmitter(this.timeoutMillis));
+    }
+
+    // 만들어진 연결(emitter)로 구독합니다. (테스트에서 전송이 멈춘 연결을 흉내 낼 때 사용)
+    SseEmitter subscribe(Integer questionId, SseEmitter emitter) {
+        if (this.subscriberCount.incrementAndGet() > this.maxSubscribers) {
+            this.subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "too many live subscribers");
+        }
+        Subscriber subscriber = new Subscriber(questionId, emitter, new ArrayBlockingQueue<>(this.queueCapacity));
+        this.subscribers.computeIfAbsent(questionId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        // 연결 직후 재연결 간격을 알려주고, 응답 헤더가 바로 전송되도록 합니다.
+        subscriber.offer(SseEmitter.event().reconnectTime(5000).comment("connected").build());
+        return emitter;
+    }
+
+    // 답변 이벤트를 해당 질문의 구독자에게 보냅니다. (구독자가 없는 질문의 답변은 읽지 않음)
+    @Override
+    public void handle(List<BoardEvent> events) {
+        for (BoardEvent event : events) {
+            if (event.getAnswerId() == null || !this.subscribers.containsKey(event.getQuestionId())) {
+                continue;
+            }
+            switch (event.getType()) {
+                case ANSWER_SAVED -> answerSaved(event.getQuestionId(), event.getAnswerId());
+                case ANSWER_DELETED -> answerDeleted(event.getQuestionId(), event.getAnswerId());
+                default -> {
+                }
+            }
+        }
+    }
+
+    // 끊어진 연결을 찾아 정리하고 중간 프록시가 유휴 연결을 닫지 않도록 주기적으로 주석 한 줄을 보냅니다.
+    @Scheduled(fixedDelayString = "${board.live.heartbeat-interval:30000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        this.subscribers.values().forEach(questionSubscribers -> questionSubscribers.forEach(s -> s.offer(ping)));
+    }
+
+    // send-timeout 보다 오래 걸리는 전송을 찾아 그 구독자를 내보내고, 붙잡힌 스레드 대신 전송할 스레드를 늘립니다.
+    @Scheduled(fixedDelayString = "${board.live.send-check-interval:1000}")
+    public void evictStuckSenders() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : this.sending) {
+            long started = subscriber.sendStarted.get();
+            // 전송 스레드가 전송을 마치는 것과 겹치면 먼저 상태를 바꾼 쪽만 처리합니다.
+            if (started <= 0 || now - started < this.sendTimeoutMillis
+                    || !subscriber.sendStarted.compareAndSet(started, TIMED_OUT)) {
+                continue;
+            }
+            resizeDispatcher(1);
+            this.sendTimeouts.increment();
+            log.debug("live subscriber send timed out: question {}", subscriber.questionId);
+            // 연결은 전송 중인 스레드가 쥐고 있으므로 닫는 일은 전송이 끝났을 때 그 스레드가 합니다. (endSend)
+            subscriber.discard();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return this.subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void close() {
+        this.subscribers.values().forEach(questionSubscribers -> questionSubscribers.forEach(s -> s.emitter.complete()));
+        this.dispatcher.shutdownNow();
+    }
+
+    // 등록/수정된 답변을 현재 내용으로 읽어서 보냅니다. (그 사이 삭제되었으면 보내지 않음)
+    private void answerSaved(Integer questionId, Integer answerId) {
+        this.answerRepository.findItemById(answerId).ifPresent(answer ->
+                broadcast(questionId, SseEmitter.event().name(EVENT_ANSWER).id(answerId.toString())
+                        .data(toJson(answer)).build()));
+    }
+
+    private void answerDeleted(Integer questionId, Integer answerId) {
+        broadcast(questionId, SseEmitter.event().name(EVENT_ANSWER_DELETED).data(answerId.toString()).build());
+    }
+
+    // 이미 만든 이벤트를 질문의 모든 구독자 대기열에 넣습니다. (이벤트 내용은 구독자끼리 공유)
+    private void broadcast(Integer questionId, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        Set<Subscriber> questionSubscribers = this.subscribers.get(questionId);
+        if (questionSubscribers != null) {
+            questionSubscribers.forEach(s -> s.offer(event));
+        }
+    }
+
+    // 붙잡힌 전송 수에 맞춰 전송 스레드 수를 조정합니다. (기본 스레드 수 + 붙잡힌 전송 수, 최대 max-stuck-senders 개 추가)
+    private synchronized void resizeDispatcher(int stuckDelta) {
+        // 전송 스레드가 돌아오는 것(-1)이 늘리는 것(+1)보다 먼저 반영될 수 있으므로 0 미만으로 내려가지 않게 합니다.
+        int extra = Math.max(0, Math.min(this.stuckSenders.addAndGet(stuckDelta), this.maxStuckSenders));
+        int size = this.threads + extra;
+        if (size > this.dispatcher.getMaximumPoolSize()) {
+            this.dispatcher.setMaximumPoolSize(size);
+            this.dispatcher.setCorePoolSize(size); // 대기 중인 전송 작업이 있으면 새 스레드가 바로 맡음
+        } else if (size < this.dispatcher.getCorePoolSize()) {
+            this.dispatcher.setCorePoolSize(size);
+            this.dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.removed.compareAndSet(false, true)) {
+            return;
+        }
+        this.subscriberCount.decrementAndGet();
+        this.subscribers.computeIfPresent(subscriber.questionId, (id, questionSubscribers) -> {
+            questionSubscribers.remove(subscriber);
+            return questionSubscribers.isEmpty() ? null : questionSubscribers;
+        });
+    }
+
+    // 화면에서 바로 그릴 수 있도록 날짜는 상세 화면과 같은 형식의 문자열로 보냅니다.
+    private String toJson(AnswerItem answer) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", answer.getId());
+        json.put("content", answer.getContent());
+        json.put("authorName", answer.getAuthorName());
+        json.put("createDate", answer.getCreateDate() != null ? DATE_FORMAT.format(answer.getCreateDate()) : null);
+        json.put("modifyDate", answer.getModifyDate() != null ? DATE_FORMAT.format(answer.getModifyDate()) : null);
+        try {
+            return this.objectMapper.writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.live.subscribers", this, AnswerLiveUpdates::getSubscriberCount)
+                .description("실시간 답변 구독자 수").register(registry);
+        FunctionCounter.builder("board.live.events.sent", this.sent, LongAdder::sum)
+                .description("구독자에게 보낸 이벤트 수").register(registry);
+        FunctionCounter.builder("board.live.dropped", this.dropped, LongAdder::sum)
+                .description("대기열이 가득 차서 연결을 끊은 구독자 수").register(registry);
+        FunctionCounter.builder("board.live.send-timeouts", this.sendTimeouts, LongAdder::sum)
+                .description("전송이 send-timeout 을 넘겨 연결을 끊은 구독자 수").register(registry);
+    }
+
+    // 구독자 하나: 연결(emitter)과 아직 보내지 못한 이벤트 대기열
+    private final class Subscriber {
+        private final Integer questionId;
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean(); // 전송 작업이 예약되어 있는지 여부
+        private final AtomicBoolean removed = new AtomicBoolean();
+        // 진행 중인 전송을 시작한 시각 (밀리초, 전송 중이 아니면 0, 시간 제한으로 내보냈으면 TIMED_OUT)
+        private final AtomicLong sendStarted = new AtomicLong();
+
+        private Subscriber(Integer questionId, SseEmitter emitter, Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue) {
+            this.questionId = questionId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        // 이벤트를 대기열에 넣고 전송 작업을 예약합니다. 호출한 스레드는 전송을 기다리지 않습니다.
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            if (this.removed.get()) {
+                return;
+            }
+            if (!this.queue.offer(event)) {
+                // 보내는 속도를 따라오지 못하는 연결은 끊습니다. (메모리를 구독자당 queue-capacity 로 제한)
+                dropped.increment();
+                discard();
+                this.emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (this.scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RuntimeException e) {
+                    this.scheduled.set(false); // 종료 중
+                }
+            }
+        }
+
+        // 진행 중인 전송을 끝냅니다. 그 사이 시간 제한으로 내보내졌으면 늘렸던 전송 스레드 수를 되돌리고 false 를 반환합니다.
+        private boolean endSend() {
+            if (this.sendStarted.getAndSet(0) == TIMED_OUT) {
+                resizeDispatcher(-1);
+                return false;
+            }
+            return true;
+        }
+
+        // 구독 목록에서 빼고 남은 이벤트를 버립니다.
+        private void discard() {
+            remove(this);
+            this.queue.clear();
+        }
+
+        // 대기열의 이벤트를 차례대로 보냅니다. 전송이 실패하면 연결이 끊긴 것으로 보고 정리합니다.
+        private void drain() {
+            sending.add(this);
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while (!this.removed.get() && (event = this.queue.poll()) != null) {
+                    this.sendStarted.set(System.currentTimeMillis());
+                    this.emitter.send(event);
+                    if (!endSend()) {
+                        this.emitter.completeWithError(new IOException("SSE send timed out")); // 전송하는 동안 내보내짐
+                        return;
+                    }
+                    sent.increment();
+                }
+            } catch (IOException | IllegalStateException e) {
+                if (endSend()) {
+                    log.debug("live subscriber disconnected: question {}", this.questionId);
+                    discard();
+                }
+                this.emitter.completeWithError(e);
+            } finally {
+                endSend(); // 예상하지 못한 예외로 끝난 경우
+                sending.remove(this);
+                this.scheduled.set(false);
+            }
+            // 전송하는 동안 들어온 이벤트가 있으면 다시 예약합니다.
+            if (!this.removed.get() && !this.queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
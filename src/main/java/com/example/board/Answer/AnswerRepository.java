@@ -1,7 +1,79 @@
 package com.example.board.Answer;
 
+import com.example.board.transfer.AnswerExportRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface AnswerRepository extends JpaRepository<Answer, Integer> {
 
-}
\ No newline at end of file
+    // 질문의 답변을 한 페이지만 작성자와 함께(fetch join) 가져옵니다.
+    // 전체 답변 수는 Question.answerCount 를 사용하므로 count 쿼리는 실행하지 않습니다.
+    @Query("select a from Answer a left join fetch a.author "
+            + "where a.question.id = :questionId "
+            + "order by a.createDate asc, a.id asc")
+    List<Answer> findPageByQuestionId(@Param("questionId") Integer questionId, Pageable pageable);
+
+    // JSON API 용: 질문의 답변을 작성순으로 가져옵니다.
+    @Query("select new com.example.board.Answer.AnswerItem(a.id, a.content, u.username, a.createDate, a.modifyDate) "
+            + "from Answer a left join a.author u "
+            + "where a.question.id = :questionId "
+            + "order by a.createDate asc, a.id asc")
+    List<AnswerItem> findItemsByQuestionId(@Param("questionId") Integer questionId, Pageable pageable);
+
+    // JSON API 용: 커서 이후의 답변을 작성순으로 가져옵니다.
+    @Query("select new com.example.board.Answer.AnswerItem(a.id, a.content, u.username, a.createDate, a.modifyDate) "
+            + "from Answer a left join a.author u "
+            + "where a.question.id = :questionId "
+            + "and (a.createDate > :createDate or (a.createDate = :createDate and a.id > :id)) "
+            + "order by a.createDate asc, a.id asc")
+    List<AnswerItem> findItemsByQuestionIdAfter(@Param("questionId") Integer questionId,
+                                                @Param("createDate") LocalDateTime createDate,
+                                                @Param("id") Integer id, Pageable pageable);
+
+    // 실시간 알림용: 답변 하나를 작성자 이름과 함께 값으로 가져옵니다.
+    @Query("select new com.example.board.Answer.AnswerItem(a.id, a.content, u.username, a.createDate, a.modifyDate) "
+            + "from Answer a left join a.author u "
+            + "where a.id = :id")
+    Optional<AnswerItem> findItemById(@Param("id") Integer id);
+
+    // 검색 색인용: 여러 질문의 답변 본문과 작성자 이름을 한 번에 가져옵니다.
+    @Query("select new com.example.board.Answer.AnswerText(a.question.id, a.content, u.username) "
+            + "from Answer a left join a.author u "
+            + "where a.question.id in :questionIds")
+    List<AnswerText> findTextsByQuestionIdIn(@Param("questionIds") Collection<Integer> questionIds);
+
+    // 내보내기용: 여러 질문의 답변 값을 작성순으로 한 번에 가져옵니다. (엔티티를 만들지 않음)
+    @Query("select new com.example.board.transfer.AnswerExportRow(a.question.id, a.content, u.username, a.createDate, a.modifyDate) "
+            + "from Answer a left join a.author u "
+            + "where a.question.id in :questionIds "
+            + "order by a.question.id asc, a.createDate asc, a.id asc")
+    List<AnswerExportRow> findExportRowsByQuestionIdIn(@Param("questionIds") Collection<Integer> questionIds);
+
+    // 작성자 확인: 답변 ID와 작성자 이름이 일치하면 답변이 속한 질문 ID를 반환합니다. (엔티티를 읽지 않음)
+    @Query("select a.question.id from Answer a where a.id = :id and a.author.username = :username")
+    Optional<Integer> findQuestionIdByIdAndAuthorUsername(@Param("id") Integer id, @Param("username") String username);
+
+    // 답변 내용을 한 번의 UPDATE 문으로 수정합니다. (갱신된 행 수를 반환)
+    @Modifying
+    @Query("update Answer a set a.content = :content, a.modifyDate = :modifyDate where a.id = :id")
+    int updateContent(@Param("id") Integer id, @Param("content") String content,
+                      @Param("modifyDate") LocalDateTime modifyDate);
+
+    // 답변을 엔티티로 읽지 않고 삭제합니다. (삭제된 행 수를 반환)
+    @Modifying
+    @Query("delete from Answer a where a.id = :id")
+    int deleteByIdDirectly(@Param("id") Integer id);
+
+    // 질문에 달린 답변을 한 번의 DELETE 문으로 모두 삭제합니다. (질문 삭제 전에 호출)
+    @Modifying
+    @Query("delete from Answer a where a.question.id = :questionId")
+    int deleteByQuestionIdDirectly(@Param("questionId") Integer questionId);
+}
@@ -2,28 +2,76 @@ package com.example.board.Answer;
 
 import com.example.board.DataNotFoundException;
 import com.example.board.Question.Question;
+import com.example.board.Question.QuestionCursor;
+import com.example.board.Question.QuestionDetailCache;
+import com.example.board.Question.QuestionListPageCache;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.event.BoardEventType;
+import com.example.board.event.BoardEvents;
 import com.example.board.user.SiteUser;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor // final 필드에 대해 생성자를 자동으로 생성해주는 Lombok 어노테이션입니다.
 @Service // 이 클래스가 서비스 계층의 빈임을 나타냅니다.
 public class AnswerService {
 
+    // 질문 상세 페이지에서 한 페이지에 보여줄 답변 수
+    public static final int PAGE_SIZE = 20;
+
     // AnswerRepository 주입
     private final AnswerRepository answerRepository;
+    // 질문의 답변 개수 컬럼을 갱신하기 위한 QuestionRepository 주입
+    private final QuestionRepository questionRepository;
+    // 질문 상세 캐시 (답변이 바뀌면 해당 질문의 항목을 무효화)
+    private final QuestionDetailCache questionDetailCache;
+    // 질문 목록 렌더링 캐시 (목록에 답변 개수가 표시되므로 답변 등록/삭제 시 무효화)
+    private final QuestionListPageCache questionListPageCache;
+    // 커밋 후 부가 작업(검색 색인, 실시간 알림)을 위한 이벤트 기록
+    private final BoardEvents boardEvents;
 
     // 답변을 생성하는 메서드
-    public void create(Question question, String content, SiteUser author) {
+    // 질문은 ID 참조(프록시)로만 연결하고, 답변 개수 UPDATE 의 갱신 행 수로 질문이 있는지 확인합니다.
+    @Transactional // 답변 저장과 답변 개수 증가를 하나의 트랜잭션으로 처리
+    public void create(Integer questionId, String content, SiteUser author) {
+        if (this.questionRepository.incrementAnswerCount(questionId) == 0) { // 질문의 답변 개수를 1 증가
+            throw new DataNotFoundException("question not found"); // 질문이 없으면 예외를 던짐
+        }
         Answer answer = new Answer(); // 새로운 답변 객체 생성
         answer.setContent(content); // 답변 내용 설정
         answer.setCreateDate(LocalDateTime.now()); // 현재 시간으로 생성 날짜 설정
-        answer.setQuestion(question); // 답변이 속한 질문 설정
+        answer.setQuestion(this.questionRepository.getReferenceById(questionId)); // 답변이 속한 질문 설정 (조회 없음)
         answer.setAuthor(author); // 답변 작성자 설정
         this.answerRepository.save(answer); // 답변을 데이터베이스에 저장
+        this.questionDetailCache.invalidate(questionId); // 질문 상세 캐시 무효화
+        this.questionListPageCache.invalidate(); // 질문 목록 캐시 무효화 (답변 개수 변경)
+        this.boardEvents.record(BoardEventType.ANSWER_SAVED, questionId, answer.getId()); // 검색 색인, 실시간 알림
+    }
+
+    // 질문의 답변을 페이지 단위로 가져오는 메서드 (작성자는 fetch join 으로 함께 조회)
+    public Page<AnswerDetail> getAnswerPage(Question question, int page) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE);
+        List<AnswerDetail> content = this.answerRepository.findPageByQuestionId(question.getId(), pageable)
+                .stream().map(AnswerDetail::of).toList(); // 화면/캐시용 스냅샷으로 변환
+        return new PageImpl<>(content, pageable, question.getAnswerCount()); // 전체 답변 수는 질문의 답변 개수 컬럼 사용
+    }
+
+    // JSON API 용: 커서 이후의 답변을 작성순으로 limit 건까지 가져오는 메서드 (cursor 가 null 이면 처음부터)
+    // 커서는 질문 목록과 같은 "작성일시,ID" 형식을 사용합니다. 응답을 쓰기 전에 모두 읽어 DB 연결을 돌려줍니다.
+    public List<AnswerItem> getApiAnswers(Integer questionId, QuestionCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return cursor == null
+                ? this.answerRepository.findItemsByQuestionId(questionId, pageable)
+                : this.answerRepository.findItemsByQuestionIdAfter(questionId, cursor.getCreateDate(), cursor.getId(), pageable);
     }
 
     // ID로 답변을 가져오는 메서드
@@ -36,15 +84,37 @@ public class AnswerService {
         }
     }
 
-    // 답변을 수정하는 메서드
-    public void modify(Answer answer, String content) {
-        answer.setContent(content); // 새로운 답변 내용 설정
-        answer.setModifyDate(LocalDateTime.now()); // 현재 시간으로 수정 날짜 설정
-        this.answerRepository.save(answer); // 수정된 답변을 데이터베이스에 저장
+    // 답변 작성자인지 확인하고, 작성자라면 답변이 속한 질문 ID를 반환하는 메서드
+    // 작성자가 아니면 빈 값을 반환하고, 답변이 없으면 예외를 던집니다. (정상 경로는 쿼리 1번)
+    public Optional<Integer> findQuestionIdIfAuthor(Integer id, String username) {
+        Optional<Integer> questionId = this.answerRepository.findQuestionIdByIdAndAuthorUsername(id, username);
+        if (questionId.isEmpty() && !this.answerRepository.existsById(id)) {
+            throw new DataNotFoundException("answer not found"); // 답변이 존재하지 않으면 예외를 던짐
+        }
+        return questionId;
+    }
+
+    // 답변을 수정하는 메서드 (엔티티를 읽지 않고 UPDATE 문 하나로 수정)
+    @Transactional
+    public void modify(Integer id, Integer questionId, String content) {
+        this.answerRepository.updateContent(id, content, LocalDateTime.now()); // 새로운 내용과 수정 날짜 설정
+        this.questionDetailCache.invalidate(questionId); // 질문 상세 캐시 무효화
+        this.boardEvents.record(BoardEventType.ANSWER_SAVED, questionId, id); // 검색 색인, 실시간 알림
+    }
+
+    // 답변을 삭제하는 메서드 (엔티티를 읽지 않고 DELETE 문 하나로 삭제)
+    @Transactional // 답변 삭제와 답변 개수 감소를 하나의 트랜잭션으로 처리
+    public void delete(Integer id, Integer questionId) {
+        if (this.answerRepository.deleteByIdDirectly(id) > 0) { // 데이터베이스에서 답변을 삭제
+            this.questionRepository.decrementAnswerCount(questionId); // 실제로 삭제된 경우에만 답변 개수를 1 감소
+            this.boardEvents.record(BoardEventType.ANSWER_DELETED, questionId, id); // 검색 색인, 실시간 알림
+        }
+        this.questionDetailCache.invalidate(questionId); // 질문 상세 캐시 무효화
+        this.questionListPageCache.invalidate(); // 질문 목록 캐시 무효화 (답변 개수 변경)
     }
 
-    // 답변을 삭제하는 메서드
-    public void delete(Answer answer) {
-        this.answerRepository.delete(answer); // 데이터베이스에서 답변을 삭제
+    // 질문에 달린 답변을 모두 삭제하는 메서드 (질문 삭제 시 사용)
+    public void deleteAllOfQuestion(Integer questionId) {
+        this.answerRepository.deleteByQuestionIdDirectly(questionId);
     }
 }
\ No newline at end of file
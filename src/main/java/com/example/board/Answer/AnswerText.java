@@ -0,0 +1,13 @@
+package com.example.board.Answer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 색인에 사용하는 답변 본문과 작성자 이름입니다.
+@Getter
+@AllArgsConstructor // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자입니다.
+public class AnswerText {
+    private final Integer questionId; // 답변이 속한 질문 ID
+    private final String content; // 답변 내용
+    private final String authorName; // 작성자 이름 (작성자가 없으면 null)
+}
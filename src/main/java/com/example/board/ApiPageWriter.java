@@ -0,0 +1,82 @@
+package com.example.board;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// JSON API 의 한 페이지를 객체 목록을 만들지 않고 JsonGenerator 로 바로 써 내려가는 도우미입니다.
+// 응답 형식: {"items":[{...}, ...], "nextCursor":"..." 또는 null}
+// fields 파라미터(예: fields=id,subject)로 필요한 필드만 골라 쓸 수 있습니다. (sparse fieldset)
+public class ApiPageWriter<T> {
+
+    // 항목 하나의 필드 하나를 쓰는 함수
+    @FunctionalInterface
+    public interface FieldWriter<T> {
+        void write(JsonGenerator json, T item) throws IOException;
+    }
+
+    private final Map<String, FieldWriter<T>> fields = new LinkedHashMap<>();
+    private final Function<T, String> cursorOf; // 항목의 위치를 커서 문자열로 만드는 함수
+
+    public ApiPageWriter(Function<T, String> cursorOf) {
+        this.cursorOf = cursorOf;
+    }
+
+    // 응답에 쓸 수 있는 필드를 등록합니다. (등록 순서대로 출력)
+    public ApiPageWriter<T> field(String name, FieldWriter<T> writer) {
+        this.fields.put(name, writer);
+        return this;
+    }
+
+    // "id,subject" 형태의 필드 목록을 검사해 선택합니다. 비어 있으면 전체 필드, 모르는 필드가 있으면 IllegalArgumentException.
+    public List<String> select(String fieldList) {
+        if (fieldList == null || fieldList.isBlank()) {
+            return List.copyOf(this.fields.keySet());
+        }
+        List<String> selected = new ArrayList<>();
+        for (String name : fieldList.split(",")) {
+            String field = name.strip();
+            if (!this.fields.containsKey(field)) {
+                throw new IllegalArgumentException("unknown field: " + field);
+            }
+            if (!selected.contains(field)) {
+                selected.add(field);
+            }
+        }
+        return selected;
+    }
+
+    // 항목을 최대 size 개까지 쓰고, 한 개가 더 있으면 마지막으로 쓴 항목의 위치를 nextCursor 로 씁니다.
+    // (호출하는 쪽은 size + 1 개까지 조회해서 넘깁니다.)
+    public void write(JsonGenerator json, Iterator<T> items, int size, List<String> selected) throws IOException {
+        json.writeStartObject();
+        json.writeArrayFieldStart("items");
+        T last = null;
+        int written = 0;
+        boolean hasNext = false;
+        while (items.hasNext()) {
+            T item = items.next();
+            if (written == size) {
+                hasNext = true;
+                break;
+            }
+            json.writeStartObject();
+            for (String field : selected) {
+                json.writeFieldName(field);
+                this.fields.get(field).write(json, item);
+            }
+            json.writeEndObject();
+            last = item;
+            written++;
+        }
+        json.writeEndArray();
+        json.writeStringField("nextCursor", hasNext ? this.cursorOf.apply(last) : null);
+        json.writeEndObject();
+    }
+}
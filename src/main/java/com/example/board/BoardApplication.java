@@ -2,7 +2,9 @@ package com.example.board;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableScheduling // 주기 작업(@Scheduled)을 활성화합니다.
 @SpringBootApplication
 public class BoardApplication {
 
@@ -0,0 +1,165 @@
+package com.example.board;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// 크기 제한(LRU)과 만료 시간(TTL)을 가진 간단한 메모리 캐시입니다.
+// 적중/실패/제거 횟수를 집계하며 MeterBinder 로 등록하면 /actuator/metrics 에서 확인할 수 있습니다.
+// (cache.gets{result=hit|miss}, cache.evictions, cache.size / 태그 cache=이름)
+// 가상 스레드에서 캐리어 스레드를 고정(pinning)하지 않도록 synchronized 대신 ReentrantLock 을 사용합니다.
+public class BoundedCache<K, V> implements MeterBinder {
+
+    private final String name; // 메트릭 태그로 사용할 캐시 이름
+    private final int maxSize; // 최대 항목 수 (넘으면 가장 오래 사용되지 않은 항목부터 제거)
+    private final long ttlNanos; // 항목 만료 시간
+
+    // 접근 순서(accessOrder=true)를 유지하는 LinkedHashMap 으로 LRU 를 구현합니다.
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // 무효화가 일어날 때마다 증가하는 세대 번호.
+    // 값을 읽어오는 동안 무효화가 있었다면 읽어온(오래되었을 수 있는) 값을 캐시에 넣지 않습니다.
+    private final AtomicLong generation = new AtomicLong();
+
+    public BoundedCache(String name, int maxSize, Duration ttl) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    // 캐시에서 값을 찾고, 없거나 만료되었으면 loader 로 읽어와 저장합니다.
+    // loader 는 잠금 밖에서 실행되며, null 을 반환하면 캐시에 저장하지 않습니다.
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.nanoTime();
+        long startGeneration;
+        this.lock.lock();
+        try {
+            Entry<V> entry = this.entries.get(key);
+            if (entry != null) {
+                if (now - entry.loadedAt < this.ttlNanos) {
+                    this.hits.increment();
+                    return entry.value;
+                }
+                this.entries.remove(key); // 만료된 항목 제거
+                this.evictions.increment();
+            }
+            this.misses.increment();
+            startGeneration = this.generation.get();
+        } finally {
+            this.lock.unlock();
+        }
+        V value = loader.apply(key);
+        if (value != null) {
+            this.lock.lock();
+            try {
+                if (this.generation.get() == startGeneration) {
+                    this.entries.put(key, new Entry<>(value, now));
+                    evictOverflow();
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+        return value;
+    }
+
+    // 키 하나를 무효화합니다.
+    public void invalidate(K key) {
+        this.lock.lock();
+        try {
+            this.generation.incrementAndGet();
+            this.entries.remove(key);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // 조건에 맞는 키를 모두 무효화합니다.
+    public void invalidateIf(Predicate<? super K> predicate) {
+        this.lock.lock();
+        try {
+            this.generation.incrementAndGet();
+            this.entries.keySet().removeIf(predicate);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    // 전체를 무효화합니다.
+    public void invalidateAll() {
+        this.lock.lock();
+        try {
+            this.generation.incrementAndGet();
+            this.entries.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public int size() {
+        this.lock.lock();
+        try {
+            return this.entries.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    // 최대 크기를 넘은 만큼 가장 오래 사용되지 않은 항목부터 제거합니다. (잠금 안에서 호출)
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = this.entries.entrySet().iterator();
+        while (this.entries.size() > this.maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            this.evictions.increment();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", this, BoundedCache::getHitCount)
+                .tag("cache", this.name).tag("result", "hit")
+                .description("캐시 적중 횟수").register(registry);
+        FunctionCounter.builder("cache.gets", this, BoundedCache::getMissCount)
+                .tag("cache", this.name).tag("result", "miss")
+                .description("캐시 실패 횟수").register(registry);
+        FunctionCounter.builder("cache.evictions", this, BoundedCache::getEvictionCount)
+                .tag("cache", this.name)
+                .description("크기 제한 또는 만료로 제거된 항목 수").register(registry);
+        Gauge.builder("cache.size", this, BoundedCache::size)
+                .tag("cache", this.name)
+                .description("현재 캐시 항목 수").register(registry);
+    }
+
+    // 캐시 항목: 값과 읽어온 시각
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
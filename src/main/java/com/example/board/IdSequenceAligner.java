@@ -0,0 +1,75 @@
+package com.example.board;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// ID 생성 방식을 IDENTITY 에서 SEQUENCE 로 바꾼 뒤, 기존 데이터가 있는 DB 의 시퀀스를 가장 큰 ID 뒤로 맞춥니다.
+// 새로 만들어진 시퀀스는 1부터 시작하므로 그대로 두면 기존 행과 ID 가 겹칩니다.
+// 스키마가 갱신된 직후(엔티티 매니저 팩토리 생성 후), 요청을 받기 전에 실행되며 시퀀스가 이미 앞서 있으면 건드리지 않습니다.
+// 현재 값은 DB 마다 다른 카탈로그 대신 Hibernate 방언(Dialect)의 nextval 문으로 읽습니다. (읽은 만큼 ID 구간 하나를 건너뜀)
+// 시퀀스가 없는 DB(MySQL 등)는 Hibernate 가 만드는 시퀀스 흉내 테이블(<시퀀스 이름>.next_val)을 맞춥니다.
+// 맞추지 못하면 ID 가 겹친 채로 쓰기를 받게 되므로 시작을 중단합니다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = "board.id-sequence.align", havingValue = "true", matchIfMissing = true)
+public class IdSequenceAligner implements InitializingBean {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 합니다.
+    private static final long ALLOCATION_SIZE = 50;
+
+    // 테이블 이름 -> 시퀀스 이름
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "question", "question_seq",
+            "answer", "answer_seq",
+            "site_user", "site_user_seq");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterPropertiesSet() {
+        Dialect dialect = this.entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        SEQUENCES.forEach((table, sequence) -> align(dialect.getSequenceSupport(), table, sequence));
+    }
+
+    private void align(SequenceSupport sequenceSupport, String table, String sequence) {
+        try {
+            Long maxId = this.jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+            if (maxId == null) {
+                return; // 데이터가 없으면 맞출 필요 없음
+            }
+            // pooled 방식은 nextval 이 반환한 값 v 로 (v - 50, v] 구간의 ID 를 사용하므로, 다음 nextval 이 max + 50 이상이면 겹치지 않습니다.
+            long required = maxId + ALLOCATION_SIZE;
+            if (!sequenceSupport.supportsSequences()) {
+                int updated = this.jdbcTemplate.update("update " + sequence + " set next_val = ? where next_val < ?", required, required);
+                if (updated > 0) {
+                    log.info("id sequence table {} set to {} (max {}.id = {})", sequence, required, table, maxId);
+                }
+                return;
+            }
+            Long current = this.jdbcTemplate.queryForObject(sequenceSupport.getSequenceNextValString(sequence), Long.class);
+            if (current != null && current + ALLOCATION_SIZE >= required) {
+                return;
+            }
+            this.jdbcTemplate.execute("alter sequence " + sequence + " restart with " + required);
+            log.info("id sequence {} restarted with {} (max {}.id = {})", sequence, required, table, maxId);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("could not align id sequence " + sequence + " for table " + table
+                    + " (set board.id-sequence.align=false only if the sequence is already ahead of max(id))", e);
+        }
+    }
+}
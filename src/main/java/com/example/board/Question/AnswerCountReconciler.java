@@ -0,0 +1,44 @@
+package com.example.board.Question;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 기존 데이터의 질문별 답변 개수(answerCount)를 실제 답변 수로 다시 맞추는 1회성 작업입니다.
+// board.answer-count.reconcile=true 로 실행했을 때만 동작합니다.
+// 예) java -jar board.jar --board.answer-count.reconcile=true
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "board.answer-count.reconcile", havingValue = "true")
+public class AnswerCountReconciler implements ApplicationRunner {
+
+    private final QuestionRepository questionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 한 번의 UPDATE(트랜잭션)로 처리할 질문 ID 구간의 크기
+    @Value("${board.answer-count.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer maxId = this.questionRepository.findMaxId();
+        if (maxId == null) {
+            return; // 질문이 하나도 없으면 할 일이 없음
+        }
+        int updated = 0;
+        for (int fromId = 1; fromId <= maxId; fromId += this.batchSize) {
+            int from = fromId;
+            int to = fromId + this.batchSize - 1;
+            // 구간마다 별도 트랜잭션으로 커밋해서 잠금 범위와 트랜잭션 크기를 제한
+            Integer count = this.transactionTemplate.execute(status -> this.questionRepository.recountAnswers(from, to));
+            updated += count == null ? 0 : count;
+        }
+        log.info("answer count reconciled for {} questions", updated);
+    }
+}
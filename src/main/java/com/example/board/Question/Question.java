@@ -5,6 +5,7 @@ import com.example.board.user.SiteUser;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,9 +13,16 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
+@DynamicUpdate // 변경된 컬럼만 UPDATE 해서 answerCount 를 오래된 값으로 덮어쓰지 않도록 합니다.
+// 목록 정렬(작성일시 역순, ID 역순)과 커서 기반 페이징, 조회수 순 정렬을 위한 복합 인덱스
+@Table(indexes = {
+        @Index(name = "idx_question_create_date_id", columnList = "createDate, id"),
+        @Index(name = "idx_question_view_count_id", columnList = "viewCount, id")})
 public class Question {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스에서 ID를 50개씩 미리 받아(pooled) INSERT 를 JDBC 배치로 묶을 수 있게 합니다. (IDENTITY 는 배치 불가)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_seq")
+    @SequenceGenerator(name = "question_seq", sequenceName = "question_seq", allocationSize = 50)
     private Integer id;
 
     @Column(length = 200)
@@ -28,6 +36,14 @@ public class Question {
     @OneToMany(mappedBy = "question", cascade = CascadeType.REMOVE)
     private List<Answer> answerList;
 
+    // 답변 개수 (답변 등록/삭제 시 UPDATE 문으로 함께 갱신되는 비정규화 컬럼)
+    @Column(columnDefinition = "integer default 0 not null")
+    private int answerCount;
+
+    // 조회수 (QuestionViewCounter 가 메모리에 모은 조회 수를 주기적으로 UPDATE 문으로 더함)
+    @Column(columnDefinition = "bigint default 0 not null")
+    private long viewCount;
+
     @ManyToOne
     private SiteUser author;
 
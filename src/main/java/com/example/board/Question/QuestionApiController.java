@@ -0,0 +1,68 @@
+package com.example.board.Question;
+
+import com.example.board.ApiPageWriter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+// 질문 목록 JSON API 입니다. (모바일 클라이언트용)
+// 템플릿 렌더링 없이 목록 조회 모델(QuestionListItem)을 JSON 으로 바로 써서 응답합니다.
+// 한 페이지를 먼저 모두 읽어 DB 연결을 돌려준 뒤 쓰므로, 응답을 느리게 받는 클라이언트가 연결 풀을 붙잡지 않습니다.
+// 예) GET /api/questions?size=20&fields=id,subject  ->  {"items":[...],"nextCursor":"2024-06-01T10:15:30.123,42"}
+//     GET /api/questions?before=2024-06-01T10:15:30.123,42  (다음 페이지)
+@RequestMapping("/api/questions")
+@RequiredArgsConstructor
+@RestController
+public class QuestionApiController {
+
+    // 한 번에 요청할 수 있는 최대 항목 수
+    static final int MAX_SIZE = 100;
+
+    private static final ApiPageWriter<QuestionListItem> PAGE_WRITER =
+            new ApiPageWriter<QuestionListItem>(item -> QuestionCursor.of(item).toString())
+                    .field("id", (json, q) -> json.writeNumber(q.getId()))
+                    .field("subject", (json, q) -> json.writeString(q.getSubject()))
+                    .field("authorName", (json, q) -> json.writeString(q.getAuthorName()))
+                    .field("createDate", (json, q) -> json.writeObject(q.getCreateDate()))
+                    .field("answerCount", (json, q) -> json.writeNumber(q.getAnswerCount()));
+
+    private final QuestionService questionService;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(@RequestParam(value = "before", required = false) String before,
+                                                      @RequestParam(value = "size", defaultValue = "20") int size,
+                                                      @RequestParam(value = "fields", required = false) String fields) {
+        // 응답을 쓰기 시작하면 상태 코드를 바꿀 수 없으므로 요청 값은 미리 검사합니다.
+        if (size < 1 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_SIZE);
+        }
+        QuestionCursor cursor;
+        List<String> selected;
+        try {
+            cursor = before != null ? QuestionCursor.parse(before) : null;
+            selected = PAGE_WRITER.select(fields);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        // 다음 페이지가 있는지 알기 위해 한 건 더 조회합니다.
+        List<QuestionListItem> rows = this.questionService.getApiList(cursor, size + 1);
+        StreamingResponseBody body = out -> {
+            JsonGenerator json = this.objectMapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            PAGE_WRITER.write(json, rows.iterator(), size, selected);
+            json.close();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
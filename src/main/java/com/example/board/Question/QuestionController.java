@@ -4,16 +4,21 @@ import java.security.Principal;
 import java.util.List;
 
 import com.example.board.Answer.AnswerForm;
+import com.example.board.TemplateWarmUpRunner;
 import com.example.board.user.SiteUser;
 import com.example.board.user.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.server.ResponseStatusException;
@@ -28,20 +33,103 @@ public class QuestionController {
     // 의존성 주입을 위한 서비스 클래스들
     private final QuestionService questionService;
     private final UserService userService;
+    private final QuestionListPageCache questionListPageCache;
+    private final QuestionViewCounter questionViewCounter;
+    private final TemplateWarmUpRunner templateWarmUpRunner;
+
+    // 조회수 순 정렬을 선택하는 sort 파라미터 값
+    private static final String SORT_VIEWS = "views";
 
     // 질문 목록을 보여주는 메서드
+    // page 파라미터는 번호 페이징, before/after 파라미터는 커서 기반 페이징, kw 파라미터는 검색으로 동작합니다.
+    // sort=views 이면 조회수 순으로 번호 페이징합니다.
     @GetMapping("/list")
-    public String list(Model model, @RequestParam(value="page", defaultValue="0") int page) {
-        Page<Question> paging = this.questionService.getList(page); // 페이지 번호에 따른 질문 목록을 가져옵니다.
-        model.addAttribute("paging", paging); // 모델에 질문 목록을 추가합니다.
+    public String list(Model model, @RequestParam(value="page", defaultValue="0") int page,
+                       @RequestParam(value = "before", required = false) String before,
+                       @RequestParam(value = "after", required = false) String after,
+                       @RequestParam(value = "kw", defaultValue = "") String kw,
+                       @RequestParam(value = "sort", defaultValue = "latest") String sort,
+                       WebRequest webRequest, Principal principal,
+                       HttpServletRequest request, HttpServletResponse response) {
+        if (page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 요청입니다."); // 음수 페이지
+        }
+        model.addAttribute("kw", kw); // 검색창에 검색어를 다시 보여줍니다.
+        model.addAttribute("sort", sort); // 선택된 정렬 방식을 표시합니다.
+        if (!kw.isBlank()) {
+            // 검색어가 있으면 검색 색인에서 점수순으로 찾습니다.
+            // 검색은 상위 결과까지만 볼 수 있으므로 페이지 번호를 마지막 검색 페이지로 제한합니다.
+            int searchPage = Math.min(page, QuestionService.MAX_SEARCH_PAGE);
+            QuestionSearchResult result = this.questionService.search(kw.strip(), searchPage);
+            model.addAttribute("questionList", result.getPaging().getContent()); // 모델에 검색 결과 목록을 추가합니다.
+            model.addAttribute("searchPaging", result.getPaging()); // 검색 결과 페이징 정보를 추가합니다.
+            model.addAttribute("searchHits", result.getHits()); // 하이라이트 정보를 추가합니다.
+            return "question_list";
+        }
+        if (SORT_VIEWS.equals(sort)) {
+            // 조회수 순 목록은 자주 바뀌므로 렌더링 캐시와 ETag 를 사용하지 않습니다.
+            Page<QuestionListItem> viewsPaging = this.questionService.getListByViews(page);
+            model.addAttribute("questionList", viewsPaging.getContent()); // 모델에 질문 목록을 추가합니다.
+            model.addAttribute("viewsPaging", viewsPaging); // 조회수 순 페이징 정보를 추가합니다.
+            model.addAttribute("lastNumberedPage", Math.min(viewsPaging.getTotalPages(), QuestionService.MAX_NUMBERED_PAGES) - 1);
+            return "question_list";
+        }
+        if (before != null || after != null) {
+            QuestionCursorPage cursorPage;
+            try {
+                cursorPage = after != null
+                        ? this.questionService.getListAfter(QuestionCursor.parse(after)) // 이전(최신) 페이지
+                        : this.questionService.getListBefore(QuestionCursor.parse(before)); // 다음(오래된) 페이지
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 페이지 요청입니다."); // 커서 형식 오류
+            }
+            model.addAttribute("questionList", cursorPage.getContent()); // 모델에 질문 목록을 추가합니다.
+            model.addAttribute("cursorPage", cursorPage); // 이전/다음 커서를 추가합니다.
+            return "question_list";
+        }
+        Page<QuestionListItem> paging;
+        String contentHash;
+        if (page < this.questionListPageCache.getCachedPages()) {
+            // 앞쪽 페이지는 렌더링된 행(tbody)을 캐시에서 가져옵니다.
+            QuestionListPageCache.RenderedPage rendered = this.questionListPageCache.get(page,
+                    () -> this.questionService.getList(page), request, response);
+            paging = rendered.paging();
+            contentHash = rendered.contentHash();
+            model.addAttribute("cachedRows", rendered.rowsHtml()); // 캐시된 행 HTML
+        } else {
+            paging = this.questionService.getList(page); // 페이지 번호에 따른 질문 목록을 가져옵니다.
+            contentHash = this.questionListPageCache.contentHash(paging);
+        }
+        // 목록 내용이 바뀌지 않았다면 페이지 렌더링 없이 304 Not Modified 로 응답합니다.
+        // (ETag 는 내용 해시이므로 어느 노드에서 받은 값이든 같은 내용이면 같음)
+        if (webRequest.checkNotModified(this.questionListPageCache.etag(page, contentHash, principal))) {
+            return null;
+        }
+        // 로그인 사용자마다 네비게이션바가 다르므로 공유 캐시(프록시)에는 비로그인 응답만 저장하고, 매번 재검증하게 합니다.
+        response.setHeader(HttpHeaders.CACHE_CONTROL, principal == null ? "no-cache" : "private, no-cache");
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.COOKIE);
+        model.addAttribute("questionList", paging.getContent()); // 모델에 질문 목록을 추가합니다.
+        model.addAttribute("paging", paging); // 모델에 페이징 정보를 추가합니다.
+        // 번호로 보여줄 마지막 페이지 (전체 페이지 수와 번호 페이징 최대 페이지 수 중 작은 쪽)
+        model.addAttribute("lastNumberedPage", Math.min(paging.getTotalPages(), QuestionService.MAX_NUMBERED_PAGES) - 1);
+        if (!paging.isEmpty()) {
+            // 번호 페이징의 마지막 페이지 다음부터는 커서 기반 페이징으로 이어갑니다.
+            model.addAttribute("nextCursor", QuestionCursor.of(paging.getContent().get(paging.getNumberOfElements() - 1)).toString());
+        }
         return "question_list"; // 질문 목록 페이지를 반환합니다.
     }
 
     // 질문 상세 정보를 보여주는 메서드
     @GetMapping(value = "/detail/{id}")
-    public String detail(Model model, @PathVariable("id") Integer id, AnswerForm answerForm) {
-        Question question = this.questionService.getQuestion(id); // ID에 해당하는 질문을 가져옵니다.
+    public String detail(Model model, @PathVariable("id") Integer id, AnswerForm answerForm,
+                         @RequestParam(value = "answerPage", defaultValue = "0") int answerPage,
+                         HttpServletRequest request) {
+        QuestionDetail question = this.questionService.getQuestionDetail(id, answerPage); // 질문과 답변 한 페이지를 가져옵니다.
+        if (!this.templateWarmUpRunner.isWarmUpRequest(request)) {
+            this.questionViewCounter.increment(id); // 조회수 증가 (메모리에 모았다가 주기적으로 DB 에 반영)
+        }
         model.addAttribute("question", question); // 모델에 질문 정보를 추가합니다.
+        model.addAttribute("answerPaging", question.getAnswerPaging()); // 답변 한 페이지를 추가합니다.
         return "question_detail"; // 질문 상세 페이지를 반환합니다.
     }
 
@@ -85,11 +173,10 @@ public class QuestionController {
         if (bindingResult.hasErrors()) {
             return "question_form"; // 폼 검증에서 오류가 발생한 경우 질문 수정 페이지로 돌아갑니다.
         }
-        Question question = this.questionService.getQuestion(id); // ID에 해당하는 질문을 가져옵니다.
-        if (!question.getAuthor().getUsername().equals(principal.getName())) {
+        if (!this.questionService.isAuthor(id, principal.getName())) { // 질문을 읽지 않고 작성자인지만 확인합니다.
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "수정권한이 없습니다."); // 작성자가 아닌 경우 예외를 던집니다.
         }
-        this.questionService.modify(question, questionForm.getSubject(), questionForm.getContent()); // 질문을 수정합니다.
+        this.questionService.modify(id, questionForm.getSubject(), questionForm.getContent()); // 질문을 수정합니다.
         return String.format("redirect:/question/detail/%s", id); // 수정된 질문의 상세 페이지로 리다이렉트합니다.
     }
 
@@ -97,11 +184,10 @@ public class QuestionController {
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/delete/{id}")
     public String questionDelete(Principal principal, @PathVariable("id") Integer id) {
-        Question question = this.questionService.getQuestion(id); // ID에 해당하는 질문을 가져옵니다.
-        if (!question.getAuthor().getUsername().equals(principal.getName())) {
+        if (!this.questionService.isAuthor(id, principal.getName())) { // 질문을 읽지 않고 작성자인지만 확인합니다.
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "삭제권한이 없습니다."); // 작성자가 아닌 경우 예외를 던집니다.
         }
-        this.questionService.delete(question); // 질문을 삭제합니다.
+        this.questionService.delete(id); // 질문을 삭제합니다.
         return "redirect:/"; // 홈 페이지로 리다이렉트합니다.
     }
 }
\ No newline at end of file
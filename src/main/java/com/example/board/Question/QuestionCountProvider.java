@@ -0,0 +1,46 @@
+package com.example.board.Question;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 질문 전체 개수를 메모리에 보관하는 컴포넌트입니다.
+// 목록 페이지마다 select count(*) 를 실행하지 않도록 질문 생성/삭제 시 값을 증감하고,
+// 주기적으로 DB 의 실제 개수와 다시 맞춥니다. (동시 갱신 중에는 잠시 근사값일 수 있습니다.)
+@RequiredArgsConstructor
+@Component
+public class QuestionCountProvider {
+
+    private final QuestionRepository questionRepository;
+
+    // 질문 전체 개수 (-1 이면 아직 DB 와 동기화되지 않은 상태)
+    private final AtomicLong total = new AtomicLong(-1);
+
+    // 질문 전체 개수를 반환하는 메서드
+    public long getTotal() {
+        long value = this.total.get();
+        if (value < 0) {
+            resync(); // 처음 호출될 때 DB 에서 개수를 읽어옴
+            value = this.total.get();
+        }
+        return value;
+    }
+
+    // 질문이 생성되었을 때 호출
+    public void increment() {
+        this.total.updateAndGet(value -> value < 0 ? value : value + 1);
+    }
+
+    // 질문이 삭제되었을 때 호출
+    public void decrement() {
+        this.total.updateAndGet(value -> value <= 0 ? value : value - 1);
+    }
+
+    // DB 의 실제 질문 개수로 다시 맞추는 메서드 (주기적으로 실행)
+    @Scheduled(fixedDelayString = "${board.question-count.resync-interval:60000}")
+    public void resync() {
+        this.total.set(this.questionRepository.count());
+    }
+}
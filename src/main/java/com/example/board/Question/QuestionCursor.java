@@ -0,0 +1,42 @@
+package com.example.board.Question;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+// 커서 기반(keyset) 페이징에서 위치를 나타내는 값입니다.
+// 목록 정렬 기준인 (작성일시, ID) 쌍을 "작성일시,ID" 형태의 문자열로 주고받습니다.
+// 예) /question/list?before=2024-06-01T10:15:30.123,42
+@Getter
+@AllArgsConstructor
+public class QuestionCursor {
+    private final LocalDateTime createDate;
+    private final Integer id;
+
+    // 목록 항목의 위치를 커서로 만듭니다.
+    public static QuestionCursor of(QuestionListItem item) {
+        return new QuestionCursor(item.getCreateDate(), item.getId());
+    }
+
+    // "작성일시,ID" 문자열을 커서로 변환합니다. 형식이 잘못되면 IllegalArgumentException 을 던집니다.
+    public static QuestionCursor parse(String value) {
+        int comma = value.lastIndexOf(',');
+        if (comma < 0) {
+            throw new IllegalArgumentException("invalid cursor: " + value);
+        }
+        try {
+            LocalDateTime createDate = LocalDateTime.parse(value.substring(0, comma));
+            Integer id = Integer.valueOf(value.substring(comma + 1));
+            return new QuestionCursor(createDate, id);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.createDate + "," + this.id;
+    }
+}
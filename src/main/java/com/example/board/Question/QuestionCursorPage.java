@@ -0,0 +1,23 @@
+package com.example.board.Question;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 페이징 결과입니다. 전체 개수(count 쿼리) 없이 이전/다음 커서만 가집니다.
+@Getter
+@AllArgsConstructor
+public class QuestionCursorPage {
+    private final List<QuestionListItem> content; // 현재 페이지의 질문 목록 (최신순)
+    private final String previousCursor; // 이전(더 최신) 페이지를 위한 after 커서, 없으면 null
+    private final String nextCursor; // 다음(더 오래된) 페이지를 위한 before 커서, 없으면 null
+
+    public boolean hasPrevious() {
+        return this.previousCursor != null;
+    }
+
+    public boolean hasNext() {
+        return this.nextCursor != null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.board.Question;
+
+import com.example.board.Answer.AnswerDetail;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+
+// 질문 상세 화면에 보여줄 변경 불가능한 스냅샷입니다.
+// 질문 정보와 요청한 답변 페이지를 함께 담아 QuestionDetailCache 에 보관됩니다.
+@Getter
+@AllArgsConstructor
+public class QuestionDetail {
+    private final Integer id; // 질문 ID
+    private final String subject; // 질문 제목
+    private final String content; // 질문 내용
+    private final String authorName; // 작성자 이름 (작성자가 없으면 null)
+    private final LocalDateTime createDate; // 작성일시
+    private final LocalDateTime modifyDate; // 수정일시
+    private final int answerCount; // 답변 개수
+    private final Page<AnswerDetail> answerPaging; // 답변 한 페이지
+
+    // 질문 엔티티와 답변 페이지로부터 스냅샷을 만듭니다.
+    public static QuestionDetail of(Question question, Page<AnswerDetail> answerPaging) {
+        String authorName = question.getAuthor() != null ? question.getAuthor().getUsername() : null;
+        return new QuestionDetail(question.getId(), question.getSubject(), question.getContent(), authorName,
+                question.getCreateDate(), question.getModifyDate(), question.getAnswerCount(), answerPaging);
+    }
+}
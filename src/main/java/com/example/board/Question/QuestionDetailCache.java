@@ -0,0 +1,55 @@
+package com.example.board.Question;
+
+import com.example.board.BoundedCache;
+import com.example.board.TransactionCallbacks;
+import com.example.board.event.BoardEvent;
+import com.example.board.event.BoardEventHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 질문 상세 스냅샷(QuestionDetail)을 (질문 ID, 답변 페이지) 단위로 보관하는 캐시입니다.
+// 질문/답변이 변경되면 해당 질문의 항목만 무효화합니다. 쓴 노드에서는 바로, 다른 노드에서는 쓰기 이벤트를 받아 무효화합니다.
+// 메트릭: cache.gets / cache.evictions / cache.size (cache=questionDetail)
+@Component
+public class QuestionDetailCache implements MeterBinder, BoardEventHandler {
+
+    private final BoundedCache<Key, QuestionDetail> cache;
+
+    public QuestionDetailCache(@Value("${board.cache.question-detail.max-size:1000}") int maxSize,
+                               @Value("${board.cache.question-detail.ttl:60s}") Duration ttl) {
+        this.cache = new BoundedCache<>("questionDetail", maxSize, ttl);
+    }
+
+    // 캐시에서 상세 스냅샷을 찾고, 없으면 loader 로 읽어와 저장합니다.
+    public QuestionDetail get(Integer questionId, int answerPage, Supplier<QuestionDetail> loader) {
+        return this.cache.get(new Key(questionId, answerPage), key -> loader.get());
+    }
+
+    // 질문 하나에 대한 모든 답변 페이지 항목을 무효화합니다.
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 한 번 더 무효화해서, 커밋 전의 값이 다시 캐시되지 않도록 합니다.
+    public void invalidate(Integer questionId) {
+        TransactionCallbacks.nowAndAfterCommit(
+                () -> this.cache.invalidateIf(key -> key.questionId().equals(questionId)));
+    }
+
+    // 다른 노드(또는 이 노드)에서 커밋된 질문/답변 쓰기를 받아 해당 질문의 항목을 무효화합니다.
+    @Override
+    public void handle(List<BoardEvent> events) {
+        events.stream().map(BoardEvent::getQuestionId).distinct().forEach(this::invalidate);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.cache.bindTo(registry);
+    }
+
+    // 캐시 키: 질문 ID와 답변 페이지 번호
+    private record Key(Integer questionId, int answerPage) {
+    }
+}
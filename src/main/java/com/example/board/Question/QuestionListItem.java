@@ -0,0 +1,19 @@
+package com.example.board.Question;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 질문 목록 화면 전용 조회 모델입니다.
+// 엔티티 대신 목록에 필요한 값만 한 번의 쿼리로 가져와서 행마다 지연 로딩이 일어나지 않도록 합니다.
+@Getter
+@AllArgsConstructor // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자입니다.
+public class QuestionListItem {
+    private final Integer id; // 질문 ID
+    private final String subject; // 질문 제목
+    private final String authorName; // 작성자 이름 (작성자가 없으면 null)
+    private final LocalDateTime createDate; // 작성일시
+    private final Integer answerCount; // 답변 개수
+    private final Long viewCount; // 조회수 (아직 DB 에 반영되지 않은 최근 조회는 제외)
+}
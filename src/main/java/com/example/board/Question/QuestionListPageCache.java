@@ -0,0 +1,126 @@
+package com.example.board.Question;
+
+import com.example.board.BoundedCache;
+import com.example.board.TransactionCallbacks;
+import com.example.board.event.BoardEvent;
+import com.example.board.event.BoardEventHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 질문 목록 앞쪽 페이지의 렌더링된 표 본문(tbody)을 보관하는 캐시입니다.
+// 질문/답변 쓰기가 있으면 전체를 무효화합니다. 쓴 노드에서는 바로, 다른 노드에서는 쓰기 이벤트를 받아 무효화합니다.
+// ETag 는 노드마다 다른 값이 되지 않도록 목록 내용(렌더링된 행과 전체 개수)의 해시로 만듭니다.
+// (다른 노드가 아직 이전 내용을 보내더라도 내용이 다르면 ETag 도 다르므로 잘못된 304 가 나가지 않음)
+// 메트릭: cache.gets / cache.evictions / cache.size (cache=questionListPage),
+//        board.template.render (template=question_list::questionRows, 캐시에 없어서 행을 렌더링한 시간)
+@Component
+public class QuestionListPageCache implements MeterBinder, BoardEventHandler {
+
+    // 질문 목록 템플릿에서 행(tbody)만 렌더링하기 위한 프래그먼트 이름
+    private static final Set<String> ROWS_FRAGMENT = Set.of("questionRows");
+
+    private final SpringTemplateEngine templateEngine;
+    private final BoundedCache<Integer, RenderedPage> cache;
+
+    // 캐시할 앞쪽 페이지 수 (0 ~ cachedPages-1 페이지)
+    @Getter
+    private final int cachedPages;
+
+    // 행 렌더링 시간 (bindTo 에서 등록)
+    private volatile Timer rowsRenderTimer;
+
+    public QuestionListPageCache(SpringTemplateEngine templateEngine,
+                                 @Value("${board.cache.question-list.pages:5}") int cachedPages,
+                                 @Value("${board.cache.question-list.ttl:60s}") Duration ttl) {
+        this.templateEngine = templateEngine;
+        this.cachedPages = cachedPages;
+        this.cache = new BoundedCache<>("questionListPage", cachedPages, ttl);
+    }
+
+    // 페이지의 렌더링 결과를 캐시에서 찾고, 없으면 loader 로 목록을 조회해 행을 렌더링한 뒤 저장합니다.
+    public RenderedPage get(int page, Supplier<Page<QuestionListItem>> loader,
+                            HttpServletRequest request, HttpServletResponse response) {
+        return this.cache.get(page, key -> render(loader.get(), request, response));
+    }
+
+    // 목록에 영향을 주는 쓰기가 있었을 때 호출합니다. (트랜잭션 안이면 커밋 후 한 번 더 실행)
+    public void invalidate() {
+        TransactionCallbacks.nowAndAfterCommit(this.cache::invalidateAll);
+    }
+
+    // 다른 노드(또는 이 노드)에서 커밋된 질문/답변 쓰기를 받아 무효화합니다.
+    @Override
+    public void handle(List<BoardEvent> events) {
+        if (!events.isEmpty()) {
+            invalidate();
+        }
+    }
+
+    // 목록 내용 해시, 페이지, 로그인 사용자(네비게이션바 내용이 달라짐)를 반영한 ETag 값
+    public String etag(int page, String contentHash, Principal principal) {
+        String user = principal == null ? "anonymous" : Integer.toHexString(principal.getName().hashCode());
+        return "\"" + contentHash + "-" + page + "-" + user + "\"";
+    }
+
+    // 캐시하지 않는 페이지의 내용 해시 (목록에 보이는 값과 전체 개수)
+    public String contentHash(Page<QuestionListItem> paging) {
+        StringBuilder content = new StringBuilder().append(paging.getTotalElements());
+        for (QuestionListItem item : paging.getContent()) {
+            content.append('\n').append(item.getId()).append('\t').append(item.getSubject())
+                    .append('\t').append(item.getAuthorName()).append('\t').append(item.getCreateDate())
+                    .append('\t').append(item.getAnswerCount()).append('\t').append(item.getViewCount());
+        }
+        return hash(content.toString());
+    }
+
+    // 목록의 행(tbody)만 렌더링합니다. 링크(@{...})를 만들 수 있도록 현재 요청으로 WebContext 를 구성합니다.
+    private RenderedPage render(Page<QuestionListItem> paging, HttpServletRequest request, HttpServletResponse response) {
+        JakartaServletWebApplication application = JakartaServletWebApplication.buildApplication(request.getServletContext());
+        WebContext context = new WebContext(application.buildExchange(request, response), request.getLocale());
+        context.setVariable("questionList", paging.getContent());
+        context.setVariable("paging", paging);
+        long started = System.nanoTime();
+        String rowsHtml = this.templateEngine.process("question_list", ROWS_FRAGMENT, context);
+        Timer timer = this.rowsRenderTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        return new RenderedPage(paging, rowsHtml, hash(paging.getTotalElements() + "\n" + rowsHtml));
+    }
+
+    private static String hash(String content) {
+        return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.cache.bindTo(registry);
+        this.rowsRenderTimer = Timer.builder("board.template.render").description("템플릿별 렌더링 시간")
+                .tag("template", "question_list::questionRows")
+                .publishPercentileHistogram().publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    // 캐시 항목: 페이징 정보, 렌더링된 행 HTML, 내용 해시(ETag 에 사용)
+    public record RenderedPage(Page<QuestionListItem> paging, String rowsHtml, String contentHash) {
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.board.Question;
 
+import com.example.board.transfer.QuestionExportRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Integer> {
@@ -14,4 +20,87 @@ public interface QuestionRepository extends JpaRepository<Question, Integer> {
     List<Question> findBySubjectLike(String subject);
 
     Page<Question> findAll(Pageable pageable);
-}
\ No newline at end of file
+
+    // 질문 목록 화면용 조회: 작성자 이름과 답변 개수를 한 번의 SQL로 함께 가져옵니다.
+    // 전체 개수는 QuestionCountProvider 가 제공하므로 count 쿼리는 실행하지 않습니다.
+    @Query("select new com.example.board.Question.QuestionListItem(q.id, q.subject, u.username, q.createDate, q.answerCount, q.viewCount) "
+            + "from Question q left join q.author u")
+    List<QuestionListItem> findListItems(Pageable pageable);
+
+    // 커서 기반 목록의 첫 페이지: (작성일시, ID) 인덱스를 역순으로 읽습니다. count 쿼리는 실행하지 않습니다.
+    @Query("select new com.example.board.Question.QuestionListItem(q.id, q.subject, u.username, q.createDate, q.answerCount, q.viewCount) "
+            + "from Question q left join q.author u "
+            + "order by q.createDate desc, q.id desc")
+    List<QuestionListItem> findListItemsLatest(Pageable pageable);
+
+    // 커서보다 오래된 질문을 최신순으로 가져옵니다. (다음 페이지)
+    @Query("select new com.example.board.Question.QuestionListItem(q.id, q.subject, u.username, q.createDate, q.answerCount, q.viewCount) "
+            + "from Question q left join q.author u "
+            + "where q.createDate < :createDate or (q.createDate = :createDate and q.id < :id) "
+            + "order by q.createDate desc, q.id desc")
+    List<QuestionListItem> findListItemsBefore(@Param("createDate") LocalDateTime createDate,
+                                               @Param("id") Integer id, Pageable pageable);
+
+    // 커서보다 최신인 질문을 오래된 순으로 가져옵니다. (이전 페이지, 호출하는 쪽에서 순서를 뒤집어 사용)
+    @Query("select new com.example.board.Question.QuestionListItem(q.id, q.subject, u.username, q.createDate, q.answerCount, q.viewCount) "
+            + "from Question q left join q.author u "
+            + "where q.createDate > :createDate or (q.createDate = :createDate and q.id > :id) "
+            + "order by q.createDate asc, q.id asc")
+    List<QuestionListItem> findListItemsAfter(@Param("createDate") LocalDateTime createDate,
+                                              @Param("id") Integer id, Pageable pageable);
+
+    // 답변 개수를 1 증가시킵니다. (갱신된 행 수를 반환)
+    @Modifying
+    @Query("update Question q set q.answerCount = q.answerCount + 1 where q.id = :id")
+    int incrementAnswerCount(@Param("id") Integer id);
+
+    // 답변 개수를 1 감소시킵니다. (갱신된 행 수를 반환)
+    @Modifying
+    @Query("update Question q set q.answerCount = q.answerCount - 1 where q.id = :id and q.answerCount > 0")
+    int decrementAnswerCount(@Param("id") Integer id);
+
+    // 지정한 ID 구간에 속한 질문들의 답변 개수를 실제 답변 수로 다시 계산합니다.
+    @Modifying
+    @Query("update Question q set q.answerCount = (select count(a) from Answer a where a.question = q) "
+            + "where q.id between :fromId and :toId")
+    int recountAnswers(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    // 재계산 작업에서 사용하는 가장 큰 질문 ID
+    @Query("select max(q.id) from Question q")
+    Integer findMaxId();
+
+    // 검색 결과의 질문 ID 목록으로 목록 화면용 항목을 가져옵니다. (순서는 호출하는 쪽에서 맞춤)
+    @Query("select new com.example.board.Question.QuestionListItem(q.id, q.subject, u.username, q.createDate, q.answerCount, q.viewCount) "
+            + "from Question q left join q.author u "
+            + "where q.id in :ids")
+    List<QuestionListItem> findListItemsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    // 작성자 확인: 엔티티를 읽지 않고 질문 ID와 작성자 이름이 일치하는 행이 있는지만 확인합니다.
+    boolean existsByIdAndAuthor_Username(Integer id, String username);
+
+    // 질문 제목/내용을 한 번의 UPDATE 문으로 수정합니다. (갱신된 행 수를 반환)
+    @Modifying
+    @Query("update Question q set q.subject = :subject, q.content = :content, q.modifyDate = :modifyDate "
+            + "where q.id = :id")
+    int updateContent(@Param("id") Integer id, @Param("subject") String subject, @Param("content") String content,
+                      @Param("modifyDate") LocalDateTime modifyDate);
+
+    // 질문을 엔티티로 읽지 않고 삭제합니다. 답변은 먼저 삭제해야 합니다. (삭제된 행 수를 반환)
+    @Modifying
+    @Query("delete from Question q where q.id = :id")
+    int deleteByIdDirectly(@Param("id") Integer id);
+
+    // 내보내기용: ID 순 키셋 페이징으로 질문의 값만 가져옵니다. (엔티티를 만들지 않음)
+    @Query("select new com.example.board.transfer.QuestionExportRow(q.id, q.subject, q.content, u.username, q.createDate, q.modifyDate) "
+            + "from Question q left join q.author u "
+            + "where q.id > :id order by q.id asc")
+    List<QuestionExportRow> findExportRowsAfterId(@Param("id") Integer id, Pageable pageable);
+
+    // 전체 재색인용: ID 순으로 질문을 작성자와 함께 가져옵니다.
+    @Query("select q from Question q left join fetch q.author where q.id > :id order by q.id asc")
+    List<Question> findWithAuthorAfterId(@Param("id") Integer id, Pageable pageable);
+
+    // 이벤트 색인용: 여러 질문을 작성자와 함께 가져옵니다.
+    @Query("select q from Question q left join fetch q.author where q.id in :ids")
+    List<Question> findWithAuthorByIdIn(@Param("ids") Collection<Integer> ids);
+}
@@ -0,0 +1,16 @@
+package com.example.board.Question;
+
+import com.example.board.search.SearchHit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+import java.util.Map;
+
+// 질문 검색 결과: 점수순 목록 페이지와 질문 ID별 하이라이트 정보입니다.
+@Getter
+@AllArgsConstructor
+public class QuestionSearchResult {
+    private final Page<QuestionListItem> paging; // 검색 결과 목록 (점수 높은 순)
+    private final Map<Integer, SearchHit> hits; // 질문 ID -> 하이라이트된 제목/본문 조각
+}
@@ -1,32 +1,143 @@
 package com.example.board.Question;
 
+import com.example.board.Answer.AnswerService;
 import com.example.board.DataNotFoundException;
+import com.example.board.TransactionCallbacks;
+import com.example.board.event.BoardEventType;
+import com.example.board.event.BoardEvents;
+import com.example.board.search.QuestionSearchIndex;
+import com.example.board.search.SearchHit;
+import com.example.board.search.SearchResult;
 import com.example.board.user.SiteUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor // final 필드에 대해 생성자를 자동으로 생성해주는 Lombok 어노테이션입니다.
 @Service // 이 클래스가 서비스 계층의 빈임을 나타냅니다.
 public class QuestionService {
 
+    // 한 페이지에 보여줄 질문 수
+    public static final int PAGE_SIZE = 10;
+
+    // 번호 페이징(OFFSET)으로 보여줄 최대 페이지 수. 이후 페이지는 커서 기반 페이징으로 이어집니다.
+    public static final int MAX_NUMBERED_PAGES = 10;
+
+    // 검색 결과의 마지막 페이지 번호 (검색 색인이 돌려주는 최대 결과 수까지)
+    public static final int MAX_SEARCH_PAGE = QuestionSearchIndex.MAX_RESULTS / PAGE_SIZE - 1;
+
     // QuestionRepository 주입
     private final QuestionRepository questionRepository;
+    // 메모리에 보관된 질문 전체 개수
+    private final QuestionCountProvider questionCountProvider;
+    // 질문 상세 화면의 답변 페이지 조회
+    private final AnswerService answerService;
+    // 질문 상세 스냅샷 캐시
+    private final QuestionDetailCache questionDetailCache;
+    // 질문 목록 앞쪽 페이지의 렌더링 캐시
+    private final QuestionListPageCache questionListPageCache;
+    // 검색 색인
+    private final QuestionSearchIndex questionSearchIndex;
+    // 커밋 후 부가 작업(검색 색인 등)을 위한 이벤트 기록
+    private final BoardEvents boardEvents;
 
     // 페이지 번호에 따른 질문 목록을 가져오는 메서드
-    public Page<Question> getList(int page) {
+    public Page<QuestionListItem> getList(int page) {
         List<Sort.Order> sorts = new ArrayList<>();
         sorts.add(Sort.Order.desc("createDate")); // 질문을 생성 날짜 기준으로 내림차순 정렬
-        Pageable pageable = PageRequest.of(page, 10, Sort.by(sorts)); // 페이지 번호와 페이지 크기, 정렬 기준 설정
-        return this.questionRepository.findAll(pageable); // 페이징 처리된 질문 목록을 반환
+        sorts.add(Sort.Order.desc("id")); // 작성일시가 같으면 ID 역순 (커서 기반 페이징과 같은 순서)
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(sorts)); // 페이지 번호와 페이지 크기, 정렬 기준 설정
+        List<QuestionListItem> content = this.questionRepository.findListItems(pageable); // 작성자 이름과 답변 개수가 포함된 목록 조회
+        return new PageImpl<>(content, pageable, this.questionCountProvider.getTotal()); // count 쿼리 대신 메모리의 전체 개수 사용
+    }
+
+    // 조회수 순으로 질문 목록을 가져오는 메서드 (조회수가 같으면 최근에 등록된 질문 먼저)
+    public Page<QuestionListItem> getListByViews(int page) {
+        Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Order.desc("viewCount"), Sort.Order.desc("id")));
+        List<QuestionListItem> content = this.questionRepository.findListItems(pageable); // (조회수, ID) 인덱스를 역순으로 읽음
+        return new PageImpl<>(content, pageable, this.questionCountProvider.getTotal());
+    }
+
+    // 검색어로 질문을 찾아 점수순으로 페이지를 가져오는 메서드 (제목, 내용, 답변 내용, 작성자 대상)
+    public QuestionSearchResult search(String kw, int page) {
+        SearchResult result = this.questionSearchIndex.search(kw, page, PAGE_SIZE);
+        Map<Integer, SearchHit> hits = new LinkedHashMap<>(); // 점수순을 유지
+        for (SearchHit hit : result.getHits()) {
+            hits.put(hit.getQuestionId(), hit);
+        }
+        // 목록 화면용 항목을 한 번에 조회한 뒤 검색 점수순으로 정렬
+        Map<Integer, QuestionListItem> items = hits.isEmpty() ? Map.of()
+                : this.questionRepository.findListItemsByIdIn(hits.keySet()).stream()
+                .collect(Collectors.toMap(QuestionListItem::getId, Function.identity()));
+        List<QuestionListItem> content = hits.keySet().stream()
+                .map(items::get)
+                .filter(Objects::nonNull) // 색인에는 남아 있지만 이미 삭제된 질문은 제외
+                .toList();
+        Page<QuestionListItem> paging = new PageImpl<>(content, PageRequest.of(page, PAGE_SIZE), result.getTotalHits());
+        return new QuestionSearchResult(paging, hits);
+    }
+
+    // 커서보다 오래된 질문 목록을 가져오는 메서드 (cursor 가 null 이면 첫 페이지)
+    public QuestionCursorPage getListBefore(QuestionCursor cursor) {
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1); // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<QuestionListItem> rows = cursor == null
+                ? this.questionRepository.findListItemsLatest(limit)
+                : this.questionRepository.findListItemsBefore(cursor.getCreateDate(), cursor.getId(), limit);
+        boolean hasNext = rows.size() > PAGE_SIZE;
+        List<QuestionListItem> content = hasNext ? rows.subList(0, PAGE_SIZE) : rows;
+        // before 커서로 들어왔다면 커서 위치까지의 더 최신 질문이 있으므로 이전 페이지가 존재
+        String previousCursor = cursor != null && !content.isEmpty() ? QuestionCursor.of(content.get(0)).toString() : null;
+        String nextCursor = hasNext ? QuestionCursor.of(content.get(content.size() - 1)).toString() : null;
+        return new QuestionCursorPage(content, previousCursor, nextCursor);
+    }
+
+    // 커서보다 최신인 질문 목록을 가져오는 메서드 (이전 페이지)
+    public QuestionCursorPage getListAfter(QuestionCursor cursor) {
+        Pageable limit = PageRequest.of(0, PAGE_SIZE + 1); // 이전 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<QuestionListItem> rows = this.questionRepository.findListItemsAfter(cursor.getCreateDate(), cursor.getId(), limit);
+        boolean hasPrevious = rows.size() > PAGE_SIZE;
+        if (!hasPrevious) {
+            return getListBefore(null); // 가장 최신 구간에 도달했으면 첫 페이지를 그대로 보여줌
+        }
+        List<QuestionListItem> content = new ArrayList<>(rows.subList(0, PAGE_SIZE));
+        Collections.reverse(content); // 오래된 순으로 조회했으므로 최신순으로 뒤집음
+        String previousCursor = QuestionCursor.of(content.get(0)).toString();
+        // after 커서로 들어왔다면 커서 위치의 질문이 다음 페이지에 있으므로 다음 페이지가 존재
+        String nextCursor = QuestionCursor.of(content.get(content.size() - 1)).toString();
+        return new QuestionCursorPage(content, previousCursor, nextCursor);
+    }
+
+    // JSON API 용: 커서보다 오래된 질문을 최신순으로 limit 건까지 가져오는 메서드 (cursor 가 null 이면 처음부터)
+    // 한 페이지는 작은 조회 모델 수십 건이므로 모두 읽고 DB 연결을 돌려준 뒤 응답을 씁니다.
+    // (느린 클라이언트가 응답을 받는 동안 연결 풀의 연결을 붙잡지 않도록)
+    public List<QuestionListItem> getApiList(QuestionCursor cursor, int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        return cursor == null
+                ? this.questionRepository.findListItemsLatest(pageable)
+                : this.questionRepository.findListItemsBefore(cursor.getCreateDate(), cursor.getId(), pageable);
+    }
+
+    // 질문이 있는지 확인하는 메서드 (없으면 예외를 던짐)
+    public void checkExists(Integer id) {
+        if (!this.questionRepository.existsById(id)) {
+            throw new DataNotFoundException("question not found");
+        }
     }
 
     // ID로 질문을 가져오는 메서드
@@ -39,7 +150,16 @@ public class QuestionService {
         }
     }
 
+    // 질문 상세 화면에 보여줄 스냅샷을 가져오는 메서드 (캐시에 없을 때만 DB 조회)
+    public QuestionDetail getQuestionDetail(Integer id, int answerPage) {
+        return this.questionDetailCache.get(id, answerPage, () -> {
+            Question question = getQuestion(id); // 질문이 없으면 DataNotFoundException (캐시하지 않음)
+            return QuestionDetail.of(question, this.answerService.getAnswerPage(question, answerPage));
+        });
+    }
+
     // 새로운 질문을 생성하는 메서드
+    @Transactional // 질문 저장과 이벤트 기록을 하나의 트랜잭션으로 처리
     public void create(String subject, String content, SiteUser user) {
         Question q = new Question(); // 새로운 질문 객체 생성
         q.setSubject(subject); // 질문 제목 설정
@@ -47,18 +167,41 @@ public class QuestionService {
         q.setCreateDate(LocalDateTime.now()); // 현재 시간으로 생성 날짜 설정
         q.setAuthor(user); // 질문 작성자 설정
         this.questionRepository.save(q); // 질문을 데이터베이스에 저장
+        TransactionCallbacks.afterCommit(this.questionCountProvider::increment); // 커밋된 경우에만 질문 전체 개수 증가
+        this.questionListPageCache.invalidate(); // 질문 목록 캐시 무효화
+        this.boardEvents.record(BoardEventType.QUESTION_SAVED, q.getId(), null); // 검색 색인에 추가
     }
 
-    // 질문을 수정하는 메서드
-    public void modify(Question question, String subject, String content) {
-        question.setSubject(subject); // 새로운 질문 제목 설정
-        question.setContent(content); // 새로운 질문 내용 설정
-        question.setModifyDate(LocalDateTime.now()); // 현재 시간으로 수정 날짜 설정
-        this.questionRepository.save(question); // 수정된 질문을 데이터베이스에 저장
+    // 질문 작성자인지 확인하는 메서드
+    // 엔티티를 읽지 않고 exists 쿼리 하나로 확인하며, 작성자가 아닐 때만 질문이 있는지 한 번 더 확인합니다.
+    public boolean isAuthor(Integer id, String username) {
+        if (this.questionRepository.existsByIdAndAuthor_Username(id, username)) {
+            return true;
+        }
+        if (!this.questionRepository.existsById(id)) {
+            throw new DataNotFoundException("question not found"); // 질문이 존재하지 않으면 예외를 던짐
+        }
+        return false;
     }
 
-    // 질문을 삭제하는 메서드
-    public void delete(Question question) {
-        this.questionRepository.delete(question); // 데이터베이스에서 질문을 삭제
+    // 질문을 수정하는 메서드 (엔티티를 읽지 않고 UPDATE 문 하나로 수정)
+    @Transactional
+    public void modify(Integer id, String subject, String content) {
+        this.questionRepository.updateContent(id, subject, content, LocalDateTime.now()); // 새로운 제목, 내용, 수정 날짜 설정
+        this.questionDetailCache.invalidate(id); // 질문 상세 캐시 무효화
+        this.questionListPageCache.invalidate(); // 질문 목록 캐시 무효화 (제목 변경)
+        this.boardEvents.record(BoardEventType.QUESTION_SAVED, id, null); // 검색 색인 갱신
+    }
+
+    // 질문을 삭제하는 메서드 (답변과 질문을 각각 DELETE 문 하나로 삭제)
+    @Transactional
+    public void delete(Integer id) {
+        this.answerService.deleteAllOfQuestion(id); // 질문에 달린 답변을 먼저 삭제
+        if (this.questionRepository.deleteByIdDirectly(id) > 0) { // 데이터베이스에서 질문을 삭제
+            TransactionCallbacks.afterCommit(this.questionCountProvider::decrement); // 실제로 삭제되어 커밋된 경우에만 질문 전체 개수 감소
+        }
+        this.questionDetailCache.invalidate(id); // 질문 상세 캐시 무효화
+        this.questionListPageCache.invalidate(); // 질문 목록 캐시 무효화
+        this.boardEvents.record(BoardEventType.QUESTION_DELETED, id, null); // 검색 색인에서 삭제
     }
 }
\ No newline at end of file
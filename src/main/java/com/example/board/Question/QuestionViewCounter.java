@@ -0,0 +1,115 @@
+package com.example.board.Question;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 질문 조회수를 메모리에 모았다가 주기적으로 DB 에 더하는 카운터입니다. (write-behind)
+// 조회마다 UPDATE 를 실행하면 인기 질문의 같은 행에서 잠금을 기다리게 되므로,
+// 요청 스레드는 질문별 LongAdder 만 늘리고 flush-interval 마다 한 스레드가 모인 값을 배치 UPDATE 로 더합니다.
+// 종료할 때도 남은 값을 기록하며, 비정상 종료 시에는 최대 flush-interval 동안의 조회수만 잃습니다.
+// 조회수를 기록해도 목록 캐시는 비우지 않습니다. 기록 주기(flush-interval)마다 비우면 렌더링 캐시가 거의 쓰이지 않으므로,
+// 목록의 조회수는 최대 board.cache.question-list.ttl 만큼 늦게 보입니다. (ETag 는 내용 해시라 캐시가 갱신되면 함께 바뀜)
+// 메트릭: board.view-count.pending (반영 대기 중인 질문 수), board.view-count.flushed (DB 에 반영된 조회수)
+@Slf4j
+@Component
+public class QuestionViewCounter implements MeterBinder {
+
+    private static final String FLUSH_SQL = "update question set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize; // 한 번의 JDBC 배치로 보낼 UPDATE 문 수
+
+    // 질문 ID -> 아직 DB 에 반영되지 않은 조회수
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+    private final LongAdder flushed = new LongAdder();
+    // 주기 작업과 종료 시 기록이 겹치지 않도록 합니다.
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public QuestionViewCounter(JdbcTemplate jdbcTemplate,
+                               @Value("${board.view-count.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 조회수를 1 늘립니다. (DB 에 접근하지 않음)
+    public void increment(Integer questionId) {
+        LongAdder views = this.pending.get(questionId);
+        if (views == null) {
+            views = this.pending.computeIfAbsent(questionId, id -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    // 모인 조회수를 DB 에 더합니다. 실패한 만큼은 다시 모아 두었다가 다음 주기에 기록합니다.
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:5000}")
+    public void flush() {
+        this.flushLock.lock();
+        try {
+            List<Object[]> rows = new ArrayList<>();
+            for (Map.Entry<Integer, LongAdder> entry : this.pending.entrySet()) {
+                long views = entry.getValue().sumThenReset();
+                if (views > 0) {
+                    rows.add(new Object[]{views, entry.getKey()});
+                } else if (this.pending.remove(entry.getKey(), entry.getValue())) {
+                    // 지난 주기 이후 조회가 없던 질문은 정리합니다. 정리하는 사이에 들어온 조회는 다시 모아 둡니다.
+                    // (제거 직후 이전 LongAdder 를 늘리는 아주 짧은 구간의 조회는 잃을 수 있음)
+                    long late = entry.getValue().sumThenReset();
+                    if (late > 0) {
+                        this.pending.computeIfAbsent(entry.getKey(), id -> new LongAdder()).add(late);
+                    }
+                }
+            }
+            int written = 0;
+            try {
+                for (; written < rows.size(); written += this.batchSize) {
+                    List<Object[]> batch = rows.subList(written, Math.min(rows.size(), written + this.batchSize));
+                    this.jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+                    batch.forEach(row -> this.flushed.add((Long) row[0]));
+                }
+            } catch (DataAccessException e) {
+                log.warn("view count flush failed, {} questions will be retried", rows.size() - written, e);
+                for (Object[] row : rows.subList(written, rows.size())) {
+                    this.pending.computeIfAbsent((Integer) row[1], id -> new LongAdder()).add((Long) row[0]);
+                }
+            }
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    // 애플리케이션이 종료될 때 남은 조회수를 기록합니다. (DB 연결이 닫히기 전에 호출됨)
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    // 아직 DB 에 반영되지 않은 조회수 (테스트/진단용)
+    public long getPendingViews(Integer questionId) {
+        LongAdder views = this.pending.get(questionId);
+        return views == null ? 0 : views.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.view-count.pending", this.pending, Map::size)
+                .description("조회수 반영을 기다리는 질문 수").register(registry);
+        FunctionCounter.builder("board.view-count.flushed", this.flushed, LongAdder::sum)
+                .description("DB 에 반영된 조회수").register(registry);
+    }
+}
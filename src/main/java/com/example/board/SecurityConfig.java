@@ -1,5 +1,11 @@
 package com.example.board;
 
+import com.example.board.session.SignedCookieSecurityContextRepository;
+import com.example.board.user.PasswordHashingBusyException;
+import com.example.board.user.PooledPasswordEncoder;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -7,19 +13,28 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
 import org.springframework.security.web.header.writers.frameoptions.XFrameOptionsHeaderWriter;
+import org.springframework.security.web.savedrequest.NullRequestCache;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
+import java.time.Duration;
+
 @Configuration // 이 클래스가 설정 클래스임을 나타냅니다.
 @EnableWebSecurity // Spring Security를 활성화합니다.
 @EnableMethodSecurity(prePostEnabled = true) // 메서드 보안 활성화 (예: @PreAuthorize 어노테이션 사용 가능).
 public class SecurityConfig {
 
+    // board.session.mode=stateless 이면 signedCookieRepository 가 있고, 세션 대신 서명된 쿠키로 로그인 상태를 유지합니다.
     @Bean
-    SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    SecurityFilterChain filterChain(HttpSecurity http,
+                                    ObjectProvider<SignedCookieSecurityContextRepository> signedCookieRepository) throws Exception {
         http
                 // 요청에 대한 보안 설정
                 .authorizeHttpRequests((authorizeHttpRequests) -> authorizeHttpRequests
@@ -60,7 +75,9 @@ public class SecurityConfig {
                         // 사용자 정의 로그인 페이지 경로 설정
                         .loginPage("/user/login")
                         // 로그인 성공 시 기본 경로 설정
-                        .defaultSuccessUrl("/"))
+                        .defaultSuccessUrl("/")
+                        // 로그인 실패 처리 (비밀번호 해시 작업이 밀린 경우는 503)
+                        .failureHandler(loginFailureHandler()))
                 // 로그아웃 설정
                 .logout((logout) -> logout
                         // 사용자 정의 로그아웃 경로 설정
@@ -70,13 +87,50 @@ public class SecurityConfig {
                         // 세션 무효화
                         .invalidateHttpSession(true))
         ;
+        SignedCookieSecurityContextRepository statelessContext = signedCookieRepository.getIfAvailable();
+        if (statelessContext != null) {
+            http
+                    // 로그인 정보는 서명된 쿠키에 보관하고 HttpSession 을 만들지 않습니다. (노드 간 세션 공유/고정 라우팅 불필요)
+                    .securityContext((securityContext) -> securityContext
+                            .securityContextRepository(statelessContext))
+                    .sessionManagement((sessionManagement) -> sessionManagement
+                            .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    // 로그인 전 요청을 세션에 저장하지 않습니다. (로그인 후에는 기본 경로로 이동)
+                    .requestCache((requestCache) -> requestCache
+                            .requestCache(new NullRequestCache()))
+                    // CSRF 토큰도 세션 대신 쿠키에 보관합니다. (폼의 hidden 값과 비교)
+                    .csrf((csrf) -> csrf
+                            .csrfTokenRepository(new CookieCsrfTokenRepository()))
+                    // 로그아웃하면 토큰을 폐기 목록에 올리고 쿠키를 지웁니다.
+                    .logout((logout) -> logout
+                            .addLogoutHandler((request, response, authentication) -> statelessContext
+                                    .saveContext(SecurityContextHolder.createEmptyContext(), request, response)));
+        }
         return http.build(); // SecurityFilterChain 객체를 생성하고 반환
     }
 
     @Bean
-    PasswordEncoder passwordEncoder() {
-        // BCryptPasswordEncoder를 사용하여 비밀번호를 암호화
-        return new BCryptPasswordEncoder();
+    PooledPasswordEncoder passwordEncoder(@Value("${board.password.bcrypt-strength:10}") int strength,
+                                          @Value("${board.password.threads:0}") int threads,
+                                          @Value("${board.password.queue-capacity:64}") int queueCapacity,
+                                          @Value("${board.password.timeout:5s}") Duration timeout) {
+        // BCrypt 로 비밀번호를 암호화하되, 요청 스레드가 아닌 전용 스레드 풀에서 실행
+        return new PooledPasswordEncoder(strength, threads, queueCapacity, timeout);
+    }
+
+    // 비밀번호 해시 작업이 밀려서 거절된 경우는 로그인 실패로 처리하지 않고 잠시 후 다시 시도하도록 503 으로 응답합니다.
+    private static AuthenticationFailureHandler loginFailureHandler() {
+        SimpleUrlAuthenticationFailureHandler loginFailed = new SimpleUrlAuthenticationFailureHandler("/user/login?error");
+        return (request, response, exception) -> {
+            for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+                if (cause instanceof PasswordHashingBusyException) {
+                    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "password hashing busy");
+                    return;
+                }
+            }
+            loginFailed.onAuthenticationFailure(request, response, exception);
+        };
     }
 
     @Bean
@@ -0,0 +1,65 @@
+package com.example.board;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+// 정적 파일(css/js) 전송 설정입니다.
+// - 템플릿의 @{/style.css} 링크는 내용 해시가 붙은 이름(/style-<md5>.css)으로 바뀌므로, 파일이 바뀌면 URL 도 바뀝니다.
+//   그래서 해시가 붙은 URL 은 브라우저/프록시가 1년 동안 다시 묻지 않고(immutable) 캐시하게 합니다.
+//   해시가 없는 이름(/style.css)은 같은 URL 로 내용이 바뀌므로 no-cache 로 매번 재검증(304)하게 합니다.
+// - 빌드할 때 미리 만든 .br/.gz 파일을 Accept-Encoding 에 맞춰 그대로 보내므로 요청마다 압축하지 않습니다. (build.gradle 참고)
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final CacheControl HASHED = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl PLAIN = CacheControl.noCache().cachePublic();
+
+    // ContentVersionStrategy 가 파일 이름에 붙이는 내용 해시 (-<md5 32자리>.확장자)
+    private static final Pattern CONTENT_HASH = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        // 스프링 부트 기본 정적 파일 설정(/**) 대신 사용됩니다.
+        // Cache-Control 은 URL 에 따라 달라지므로 여기서 지정하지 않고 아래 인터셉터가 붙입니다.
+        registry.addResourceHandler("/**")
+                .addResourceLocations("classpath:/static/")
+                .resourceChain(true) // 해시 계산과 파일 조회 결과를 메모리에 캐시
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                if (handler instanceof ResourceHttpRequestHandler) {
+                    CacheControl cacheControl = CONTENT_HASH.matcher(request.getRequestURI()).find() ? HASHED : PLAIN;
+                    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+                }
+                return true;
+            }
+        });
+    }
+
+    // 템플릿에서 만든 정적 파일 링크를 해시가 붙은 이름으로 바꿉니다.
+    @Bean
+    ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
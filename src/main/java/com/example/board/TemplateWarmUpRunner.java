@@ -0,0 +1,80 @@
+package com.example.board;
+
+import com.example.board.Question.QuestionListItem;
+import com.example.board.Question.QuestionRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// 시작할 때 주요 화면을 직접 요청해서 템플릿(레이아웃, navbar, form_errors 프래그먼트 포함)을 미리 파싱/캐시합니다.
+// ApplicationRunner 는 준비 완료(readiness) 상태가 되기 전에 실행되므로, 첫 사용자 요청이 파싱 비용을 치르지 않습니다.
+// 내장 서버 없이 실행할 때(테스트 등)나 board.thymeleaf.warm-up=false 이면 건너뜁니다.
+// 미리 보는 요청에는 실행마다 새로 만든 토큰을 헤더로 붙여서, 상세 화면이 조회수를 세지 않게 합니다. (isWarmUpRequest)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE) // 재색인 등 다른 시작 작업이 끝난 뒤 실행
+public class TemplateWarmUpRunner implements ApplicationRunner {
+
+    // 미리 보는 요청임을 알리는 헤더
+    public static final String WARM_UP_HEADER = "X-Board-Warm-Up";
+
+    private final Environment environment;
+    private final QuestionRepository questionRepository;
+
+    // 외부 요청이 흉내 낼 수 없도록 실행마다 새로 만드는 토큰
+    private final String token = UUID.randomUUID().toString();
+
+    @Value("${board.thymeleaf.warm-up:true}")
+    private boolean warmUp;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer port = this.environment.getProperty("local.server.port", Integer.class);
+        if (!this.warmUp || port == null) {
+            return;
+        }
+        List<String> paths = new ArrayList<>(List.of("/question/list", "/question/list?page=1", "/user/login", "/user/signup"));
+        List<QuestionListItem> latest = this.questionRepository.findListItemsLatest(PageRequest.of(0, 1));
+        if (!latest.isEmpty()) {
+            paths.add("/question/detail/" + latest.get(0).getId());
+        }
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        long started = System.nanoTime();
+        for (String path : paths) {
+            try {
+                HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .header(WARM_UP_HEADER, this.token)
+                        .timeout(Duration.ofSeconds(30)).GET().build(), HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    log.warn("template warm-up {} returned {}", path, response.statusCode());
+                }
+            } catch (Exception e) {
+                log.warn("template warm-up {} failed", path, e);
+            }
+        }
+        log.info("warmed up {} pages in {} ms", paths.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // 시작할 때 템플릿을 미리 보려고 보낸 요청인지 확인합니다.
+    public boolean isWarmUpRequest(HttpServletRequest request) {
+        return this.token.equals(request.getHeader(WARM_UP_HEADER));
+    }
+}
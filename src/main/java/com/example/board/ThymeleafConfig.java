@@ -0,0 +1,16 @@
+package com.example.board;
+
+import nz.net.ultraq.thymeleaf.layoutdialect.LayoutDialect;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ThymeleafConfig {
+
+    // 화면 템플릿은 <head> 를 갖지 않고 layout.html 의 <head> 를 그대로 쓰므로,
+    // 요청마다 레이아웃과 화면의 <head> 를 비교/병합하는 작업을 끕니다.
+    @Bean
+    LayoutDialect layoutDialect() {
+        return new LayoutDialect().withAutoHeadMerging(false);
+    }
+}
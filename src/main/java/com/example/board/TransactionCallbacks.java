@@ -0,0 +1,39 @@
+package com.example.board;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 캐시 무효화처럼 "쓰기가 반영된 뒤"에 실행해야 하는 작업을 위한 도우미입니다.
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 트랜잭션 안이라면 커밋된 뒤에, 아니면 바로 실행합니다. (롤백되면 실행하지 않음)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 지금 한 번 실행하고, 트랜잭션 안이라면 커밋된 뒤에 한 번 더 실행합니다.
+    // 커밋 전에 다른 요청이 이전 값을 다시 캐시하더라도 커밋 후 실행으로 정리됩니다.
+    public static void nowAndAfterCommit(Runnable action) {
+        action.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
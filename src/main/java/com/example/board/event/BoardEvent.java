@@ -0,0 +1,41 @@
+package com.example.board.event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 쓰기와 같은 트랜잭션에서 저장되는 이벤트입니다. (transactional outbox)
+// 커밋된 이벤트만 남으므로 롤백된 쓰기의 부가 작업은 실행되지 않고, 처리되기 전에 서버가 멈춰도 다음 시작 때 처리됩니다.
+// 서버(노드)마다 BoardEventDispatcher 가 기록 시각 순으로 읽어 처리하며, 처리해도 지우지 않고 retention 이 지나면 삭제합니다.
+@Getter
+@Setter
+@Entity
+@Table(indexes = @Index(name = "idx_board_event_create_date_id", columnList = "createDate, id"))
+public class BoardEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_event_seq")
+    @SequenceGenerator(name = "board_event_seq", sequenceName = "board_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private BoardEventType type;
+
+    @Column(nullable = false)
+    private Integer questionId; // 이벤트가 속한 질문 (질문 단위로 순서를 지킴)
+
+    private Integer answerId; // 답변 이벤트일 때 답변 ID
+
+    private LocalDateTime createDate;
+}
@@ -0,0 +1,24 @@
+package com.example.board.event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 서버(노드)별 이벤트 처리 위치입니다. 재시작한 노드는 이 위치부터 이어서 처리합니다.
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BoardEventCursor {
+    @Id
+    @Column(length = 100)
+    private String nodeId; // board.events.node-id
+
+    private LocalDateTime position; // 이 시각(기록 시각 기준)까지의 이벤트를 처리함
+}
@@ -0,0 +1,6 @@
+package com.example.board.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardEventCursorRepository extends JpaRepository<BoardEventCursor, String> {
+}
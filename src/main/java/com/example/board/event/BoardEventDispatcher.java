@@ -0,0 +1,390 @@
+package com.example.board.event;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 기록된 이벤트(BoardEvent)를 서버(노드)마다 전용 스레드 하나에서 기록 시각 순으로 읽어 모든 BoardEventHandler 에 넘깁니다.
+// 검색 색인, SSE 구독자, 캐시처럼 처리기의 작업은 노드마다 따로 해야 하므로, 이벤트를 먼저 읽은 노드가 지우지 않고
+// 노드마다 어디까지 처리했는지(위치)를 따로 관리합니다. 이벤트는 retention 이 지나면 어느 노드에서든 삭제합니다.
+// 이 노드에서 쓰기가 커밋되면 바로 깨어나고, 다른 노드의 쓰기와 재시도할 이벤트는 poll-interval 마다 확인합니다.
+//
+// ID 는 노드마다 미리 받아 둔 범위에서 나오고 커밋 순서와도 다르므로, ID 대신 기록 시각(createDate)으로 읽습니다.
+// 커밋이 늦거나 노드끼리 시계가 조금 달라 늦게 보이는 이벤트를 놓치지 않도록 확인할 때마다 (위치 - settle) 이후를 다시 읽고,
+// 이미 처리한 이벤트 ID 는 그 구간 동안 메모리에 기억해 두었다가 건너뜁니다.
+// (settle 보다 오래 걸려 커밋된 쓰기, settle 보다 큰 시계 차이는 놓칠 수 있으므로 settle 은 둘을 합친 것보다 길게 잡습니다.)
+// 위치는 board_event_cursor 에 노드별(board.events.node-id)로 저장되므로 재시작한 노드는 멈춰 있던 동안의 이벤트를 이어서 처리합니다.
+// retention 보다 오래 멈춰 있던 노드는 그 사이 이벤트를 받을 수 없으므로 경고를 남깁니다. (검색 색인은 board.search.reindex=true 로 다시 만듦)
+//
+// 한 묶음 처리에 실패하면 질문별로 나누어 다시 처리해서, 실패한 질문의 이벤트만 남기고 나머지는 진행합니다.
+// 실패한 이벤트는 이벤트마다 실패 횟수를 세어 다음 확인 때 다시 처리하며, max-attempts 번 실패하면 오류 로그를 남기고 버립니다.
+// 실패한 질문의 뒤에 기록된 이벤트는 앞선 이벤트와 함께 다음 확인 때 순서대로 처리합니다. (질문 단위 순서 보장)
+// (처리기는 같은 이벤트를 다시 받아도 안전해야 하며, 이벤트 내용보다 처리 시점의 DB 상태를 기준으로 동작합니다.)
+// 메트릭: board.events.pending (이 노드에서 아직 처리하지 않은 이벤트 수, 묶음마다 갱신),
+//        board.events.lag (처리하지 않은 가장 오래된 이벤트가 기록된 뒤 지난 시간), board.events.retrying (재시도를 기다리는 이벤트 수),
+//        board.events.dispatched / failed / dropped, board.events.batch (묶음 처리 시간)
+@Slf4j
+@Component
+public class BoardEventDispatcher implements MeterBinder {
+
+    private final BoardEventRepository boardEventRepository;
+    private final BoardEventCursorRepository boardEventCursorRepository;
+    private final ObjectProvider<BoardEventHandler> handlers;
+    private final String nodeId; // 처리 위치를 저장할 노드 이름
+    private final int batchSize; // 한 번에 읽어 처리할 이벤트 수
+    private final int maxAttempts; // 이벤트를 버리기 전까지 처리를 시도할 횟수
+    private final Duration settle; // 늦게 커밋된 이벤트를 찾기 위해 위치보다 앞서 다시 읽는 구간
+    private final Duration retention; // 이벤트 보관 기간
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean(); // 처리 작업이 예약/실행 중인지 여부
+    private final AtomicBoolean requested = new AtomicBoolean(); // 처리 중에 새 이벤트가 커밋되었는지 여부
+
+    // 아래 상태는 처리 스레드에서만 사용합니다.
+    private LocalDateTime position; // 이 시각까지 기록된 이벤트는 처리함 (처음 처리할 때 저장된 위치를 읽음)
+    private LocalDateTime savedPosition; // 마지막으로 저장한 위치
+    private final Map<Long, LocalDateTime> processed = new HashMap<>(); // (위치 - settle) 이후에 처리한 이벤트 ID -> 기록 시각
+    private final Map<Long, Retry> retries = new HashMap<>(); // 재시도를 기다리는 이벤트 ID -> 기록 시각, 실패 횟수
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong oldestPendingMillis = new AtomicLong(); // 처리하지 않은 가장 오래된 이벤트의 기록 시각 (없으면 0)
+    private final AtomicLong retrying = new AtomicLong();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // 묶음 처리 시간 (bindTo 에서 등록)
+    private volatile Timer batchTimer;
+
+    // 처리기가 BoardEvents 를 사용하는 서비스에 의존하더라도 순환 참조가 되지 않도록 처리기는 ObjectProvider 로 늦게 가져옵니다.
+    public BoardEventDispatcher(BoardEventRepository boardEventRepository,
+                                BoardEventCursorRepository boardEventCursorRepository,
+                                ObjectProvider<BoardEventHandler> handlers,
+                                @Value("${board.events.node-id:}") String nodeId,
+                                @Value("${board.events.batch-size:500}") int batchSize,
+                                @Value("${board.events.max-attempts:10}") int maxAttempts,
+                                @Value("${board.events.settle:30s}") Duration settle,
+                                @Value("${board.events.retention:1d}") Duration retention) {
+        this.boardEventRepository = boardEventRepository;
+        this.boardEventCursorRepository = boardEventCursorRepository;
+        this.handlers = handlers;
+        this.nodeId = nodeId.isBlank() ? hostName() : nodeId;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.settle = settle;
+        this.retention = retention;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "board-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 이벤트를 처리하도록 깨웁니다. 이미 처리 중이면 현재 작업이 끝난 뒤 한 번 더 확인합니다.
+    public void wakeUp() {
+        this.requested.set(true);
+        if (this.scheduled.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                this.scheduled.set(false); // 종료 중
+            }
+        }
+    }
+
+    // 다른 노드에서 커밋된 이벤트와 재시도할 이벤트를 주기적으로 확인합니다.
+    @Scheduled(fixedDelayString = "${board.events.poll-interval:1000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    // 보관 기간이 지난 이벤트를 삭제합니다. (모든 노드에서 실행해도 안전)
+    @Scheduled(fixedDelayString = "${board.events.cleanup-interval:60000}")
+    public void cleanup() {
+        int deleted = this.boardEventRepository.deleteCreatedBefore(LocalDateTime.now().minus(this.retention));
+        if (deleted > 0) {
+            log.debug("deleted {} board events older than {}", deleted, this.retention);
+        }
+    }
+
+    public String getNodeId() {
+        return this.nodeId;
+    }
+
+    public long getPending() {
+        return this.pending.get();
+    }
+
+    // 처리가 멈춰 있어도 늘어나도록 조회할 때 계산합니다.
+    public long getLagMillis() {
+        long oldest = this.oldestPendingMillis.get();
+        return oldest == 0 ? 0 : Math.max(0, System.currentTimeMillis() - oldest);
+    }
+
+    public long getRetrying() {
+        return this.retrying.get();
+    }
+
+    public long getDropped() {
+        return this.dropped.sum();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        this.executor.shutdown();
+        // 처리 중인 묶음은 마저 끝냅니다. (남은 이벤트는 다음 시작 때 저장된 위치부터 처리)
+        this.executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    // 새 이벤트가 없거나 재시도할 이벤트만 남을 때까지 처리합니다.
+    private void drain() {
+        boolean stalled = false;
+        try {
+            do {
+                this.requested.set(false);
+                stalled = !scan();
+            } while (!stalled && this.requested.get());
+        } catch (RuntimeException e) {
+            stalled = true;
+            log.warn("board event dispatch failed", e);
+        } finally {
+            this.scheduled.set(false);
+        }
+        // 확인을 마친 직후에 커밋된 이벤트가 있으면 다시 처리합니다. (재시도할 이벤트는 다음 확인까지 기다림)
+        if (!stalled && this.requested.get()) {
+            wakeUp();
+        }
+    }
+
+    // (위치 - settle) 이후의 이벤트 중 처리하지 않은 것을 묶음 단위로 처리하고 위치를 옮깁니다.
+    // 재시도할 이벤트가 남았으면 false 를 반환합니다.
+    private boolean scan() {
+        LocalDateTime started = LocalDateTime.now();
+        if (this.position == null) {
+            loadPosition(started);
+        }
+        LocalDateTime afterDate = this.position.minus(this.settle);
+        long afterId = 0;
+        boolean completed = true;
+        Set<Integer> failedQuestions = new HashSet<>(); // 이번 확인에서 실패한 질문 (뒤에 기록된 이벤트도 미룸)
+        while (true) {
+            List<BoardEvent> page = this.boardEventRepository.findAfter(afterDate, afterId, PageRequest.of(0, this.batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            BoardEvent last = page.get(page.size() - 1);
+            afterDate = last.getCreateDate();
+            afterId = last.getId();
+            List<BoardEvent> events = new ArrayList<>();
+            for (BoardEvent event : page) {
+                if (this.processed.containsKey(event.getId())) {
+                    continue;
+                }
+                if (failedQuestions.contains(event.getQuestionId())) {
+                    // 질문 단위 순서를 지키기 위해 앞선 이벤트가 처리될 때까지 함께 미룹니다. (실패 횟수는 늘리지 않음)
+                    this.retries.putIfAbsent(event.getId(), new Retry(event.getCreateDate(), 0));
+                    completed = false;
+                } else {
+                    events.add(event);
+                }
+            }
+            publishBacklog(page, afterDate, afterId);
+            if (!events.isEmpty() && !dispatchBatch(events, failedQuestions)) {
+                completed = false;
+            }
+            if (page.size() < this.batchSize) {
+                break;
+            }
+        }
+        advance(started);
+        return completed;
+    }
+
+    private boolean dispatchBatch(List<BoardEvent> events, Set<Integer> failedQuestions) {
+        long started = System.nanoTime();
+        boolean completed;
+        try {
+            handle(events);
+            events.forEach(this::markProcessed);
+            this.dispatched.add(events.size());
+            completed = true;
+        } catch (RuntimeException e) {
+            log.warn("board event batch failed, retrying per question: {} events", events.size(), e);
+            completed = dispatchPerQuestion(events, failedQuestions);
+        }
+        Timer timer = this.batchTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        return completed;
+    }
+
+    // 질문별로 나누어 처리합니다. 재시도할 이벤트가 남은 질문은 failedQuestions 에 더하고 false 를 반환합니다.
+    private boolean dispatchPerQuestion(List<BoardEvent> events, Set<Integer> failedQuestions) {
+        Map<Integer, List<BoardEvent>> byQuestion = new LinkedHashMap<>();
+        for (BoardEvent event : events) {
+            byQuestion.computeIfAbsent(event.getQuestionId(), id -> new ArrayList<>()).add(event);
+        }
+        boolean completed = true;
+        for (Map.Entry<Integer, List<BoardEvent>> entry : byQuestion.entrySet()) {
+            List<BoardEvent> questionEvents = entry.getValue();
+            try {
+                handle(questionEvents);
+                questionEvents.forEach(this::markProcessed);
+                this.dispatched.add(questionEvents.size());
+            } catch (RuntimeException e) {
+                this.failed.add(questionEvents.size());
+                log.warn("board events of question {} failed", entry.getKey(), e);
+                // 실패 횟수는 이벤트마다 셉니다. (나중에 기록된 이벤트는 처음 실패한 것으로 셈)
+                for (BoardEvent event : questionEvents) {
+                    Retry retry = this.retries.merge(event.getId(), new Retry(event.getCreateDate(), 1),
+                            (previous, first) -> new Retry(previous.createDate(), previous.attempts() + 1));
+                    if (retry.attempts() >= this.maxAttempts) {
+                        log.error("dropping board event {} ({}) of question {} after {} attempts",
+                                event.getId(), event.getType(), entry.getKey(), retry.attempts());
+                        markProcessed(event);
+                        this.dropped.increment();
+                    } else {
+                        failedQuestions.add(entry.getKey());
+                        completed = false;
+                    }
+                }
+            }
+        }
+        return completed;
+    }
+
+    private void handle(List<BoardEvent> events) {
+        this.handlers.orderedStream().forEach(handler -> handler.handle(events));
+    }
+
+    private void markProcessed(BoardEvent event) {
+        this.processed.put(event.getId(), event.getCreateDate());
+        this.retries.remove(event.getId());
+    }
+
+    // 처음 처리할 때 저장된 위치를 읽습니다. 저장된 위치가 없는 새 노드는 지금부터 처리합니다.
+    private void loadPosition(LocalDateTime now) {
+        this.savedPosition = this.boardEventCursorRepository.findById(this.nodeId)
+                .map(BoardEventCursor::getPosition).orElse(null);
+        this.position = this.savedPosition == null ? now : this.savedPosition;
+        if (this.position.isBefore(now.minus(this.retention))) {
+            log.warn("board event node {} was stopped since {}, events older than {} were already deleted",
+                    this.nodeId, this.position, this.retention);
+        }
+    }
+
+    // 위치를 확인을 시작한 시각으로 옮깁니다. 재시도할 이벤트가 있으면 그 이벤트가 다음 확인 구간에 들어오도록 덜 옮깁니다.
+    private void advance(LocalDateTime scanStarted) {
+        LocalDateTime next = scanStarted;
+        LocalDateTime oldestRetry = oldestRetry();
+        if (oldestRetry != null && oldestRetry.plus(this.settle).isBefore(next)) {
+            next = oldestRetry.plus(this.settle);
+        }
+        if (next.isAfter(this.position)) {
+            this.position = next;
+        }
+        LocalDateTime windowStart = this.position.minus(this.settle);
+        this.processed.values().removeIf(createDate -> createDate.isBefore(windowStart));
+        // 확인을 마치면 재시도할 이벤트만 남습니다. (그 사이 커밋된 이벤트는 다음 확인에서 셈)
+        this.retrying.set(this.retries.size());
+        this.pending.set(this.retries.size());
+        this.oldestPendingMillis.set(toEpochMillis(oldestRetry));
+        // 위치는 재시작할 때 이어서 처리하기 위한 것이므로 처음과 1초 이상 움직였을 때만 저장합니다.
+        if (this.savedPosition == null || Duration.between(this.savedPosition, this.position).toSeconds() >= 1) {
+            this.boardEventCursorRepository.save(new BoardEventCursor(this.nodeId, this.position));
+            this.savedPosition = this.position;
+        }
+    }
+
+    // 묶음을 처리하기 전에 밀린 이벤트 수와 가장 오래된 미처리 이벤트를 기록합니다.
+    // 앞 묶음에서 실패한 이벤트, 이 묶음의 미처리 이벤트, 묶음이 가득 찼다면 그 뒤에 기록된 이벤트를 더합니다.
+    // (뒤의 이벤트에는 settle 구간에서 이미 처리한 것이 섞일 수 있으므로 대략적인 값)
+    private void publishBacklog(List<BoardEvent> page, LocalDateTime lastDate, long lastId) {
+        LocalDateTime pageStart = page.get(0).getCreateDate();
+        long earlierRetries = this.retries.values().stream().filter(retry -> retry.createDate().isBefore(pageStart)).count();
+        List<BoardEvent> undispatched = page.stream().filter(e -> !this.processed.containsKey(e.getId())).toList();
+        long later = page.size() < this.batchSize ? 0 : this.boardEventRepository.countAfter(lastDate, lastId);
+        this.pending.set(earlierRetries + undispatched.size() + later);
+
+        LocalDateTime oldest = oldestRetry();
+        if (!undispatched.isEmpty() && (oldest == null || undispatched.get(0).getCreateDate().isBefore(oldest))) {
+            oldest = undispatched.get(0).getCreateDate();
+        }
+        this.oldestPendingMillis.set(toEpochMillis(oldest));
+        this.retrying.set(this.retries.size());
+    }
+
+    private LocalDateTime oldestRetry() {
+        LocalDateTime oldest = null;
+        for (Retry retry : this.retries.values()) {
+            if (oldest == null || retry.createDate().isBefore(oldest)) {
+                oldest = retry.createDate();
+            }
+        }
+        return oldest;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("board.events.pending", this, BoardEventDispatcher::getPending)
+                .description("이 노드에서 아직 처리하지 않은 이벤트 수").register(registry);
+        Gauge.builder("board.events.lag", this, d -> d.getLagMillis() / 1000.0).baseUnit("seconds")
+                .description("처리하지 않은 가장 오래된 이벤트가 기록된 뒤 지난 시간").register(registry);
+        Gauge.builder("board.events.retrying", this, BoardEventDispatcher::getRetrying)
+                .description("이 노드에서 재시도를 기다리는 이벤트 수").register(registry);
+        FunctionCounter.builder("board.events.dispatched", this.dispatched, LongAdder::sum)
+                .description("처리한 이벤트 수").register(registry);
+        FunctionCounter.builder("board.events.failed", this.failed, LongAdder::sum)
+                .description("처리에 실패한 이벤트 수 (재시도 포함)").register(registry);
+        FunctionCounter.builder("board.events.dropped", this.dropped, LongAdder::sum)
+                .description("max-attempts 번 실패해서 버린 이벤트 수").register(registry);
+        this.batchTimer = Timer.builder("board.events.batch").description("이벤트 묶음 처리 시간")
+                .publishPercentileHistogram().register(registry);
+    }
+
+    // 재시도를 기다리는 이벤트의 기록 시각과 실패 횟수
+    private record Retry(LocalDateTime createDate, int attempts) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.board.event;
+
+import java.util.List;
+
+// 커밋된 이벤트로 부가 작업(검색 색인, 실시간 알림 등)을 하는 빈이 구현합니다.
+// 이벤트는 기록된 순서대로 여러 건씩 전달되며, 실패하면 같은 이벤트가 다시 전달될 수 있으므로
+// 같은 이벤트를 두 번 처리해도 결과가 같아야 합니다. 처리하지 않는 종류의 이벤트는 무시합니다.
+public interface BoardEventHandler {
+
+    void handle(List<BoardEvent> events);
+}
@@ -0,0 +1,29 @@
+package com.example.board.event;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BoardEventRepository extends JpaRepository<BoardEvent, Long> {
+
+    // (createDate, id) 가 주어진 값 다음인 이벤트를 기록 시각 순으로 가져옵니다. (키셋 페이징)
+    @Query("select e from BoardEvent e where e.createDate > :createDate or (e.createDate = :createDate and e.id > :id) "
+            + "order by e.createDate asc, e.id asc")
+    List<BoardEvent> findAfter(@Param("createDate") LocalDateTime createDate, @Param("id") Long id, Pageable pageable);
+
+    // (createDate, id) 가 주어진 값 다음인 이벤트 수 (밀린 이벤트 메트릭)
+    @Query("select count(e) from BoardEvent e where e.createDate > :createDate or (e.createDate = :createDate and e.id > :id)")
+    long countAfter(@Param("createDate") LocalDateTime createDate, @Param("id") Long id);
+
+    // 보관 기간이 지난 이벤트를 삭제합니다.
+    @Transactional
+    @Modifying
+    @Query("delete from BoardEvent e where e.createDate < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
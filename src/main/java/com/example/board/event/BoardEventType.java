@@ -0,0 +1,9 @@
+package com.example.board.event;
+
+// 게시판 쓰기 이벤트 종류
+public enum BoardEventType {
+    QUESTION_SAVED, // 질문 등록/수정
+    QUESTION_DELETED, // 질문 삭제 (답변도 함께 삭제됨)
+    ANSWER_SAVED, // 답변 등록/수정
+    ANSWER_DELETED // 답변 삭제
+}
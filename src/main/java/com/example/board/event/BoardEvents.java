@@ -0,0 +1,31 @@
+package com.example.board.event;
+
+import com.example.board.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 서비스의 쓰기 트랜잭션 안에서 이벤트를 기록합니다.
+// 기록은 INSERT 한 번이며, 부가 작업은 커밋 후 BoardEventDispatcher 가 별도 스레드에서 처리하므로 쓰기 요청은 기다리지 않습니다.
+@RequiredArgsConstructor
+@Component
+public class BoardEvents {
+
+    private final BoardEventRepository boardEventRepository;
+    private final BoardEventDispatcher boardEventDispatcher;
+
+    // 쓰기와 같은 트랜잭션에 이벤트를 저장하고, 커밋되면 처리기를 깨웁니다. (트랜잭션 밖에서 호출하면 예외)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(BoardEventType type, Integer questionId, Integer answerId) {
+        BoardEvent event = new BoardEvent();
+        event.setType(type);
+        event.setQuestionId(questionId);
+        event.setAnswerId(answerId);
+        event.setCreateDate(LocalDateTime.now());
+        this.boardEventRepository.save(event);
+        TransactionCallbacks.afterCommit(this.boardEventDispatcher::wakeUp);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.board.profiling;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+// 엔티티가 DB 에서 로딩될 때마다 현재 요청의 엔티티 로딩 수를 늘리는 Hibernate 인터셉터입니다.
+// 세션 팩토리 전체에서 공유되므로 상태는 요청별 RequestProfile 에만 둡니다.
+public class EntityLoadInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.recordEntityLoad();
+        }
+        return false; // 상태를 바꾸지 않음
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.board.profiling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// 요청별 SQL/시간 측정 설정입니다. board.profiling.enabled=false 로 끌 수 있습니다.
+// - 데이터소스를 datasource-proxy 로 감싸 모든 SQL 문의 실행 시간을 잽니다.
+// - Hibernate 인터셉터로 엔티티 로딩 수를 셉니다.
+// - 질문/답변/사용자 화면 요청에 RequestProfilingInterceptor 를 등록합니다.
+@Configuration
+@ConditionalOnProperty(name = "board.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class ProfilingConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowRequest;
+
+    public ProfilingConfig(MeterRegistry meterRegistry,
+                           @Value("${board.profiling.slow-request:500ms}") Duration slowRequest) {
+        this.meterRegistry = meterRegistry;
+        this.slowRequest = slowRequest;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestProfilingInterceptor(this.meterRegistry, this.slowRequest))
+                .addPathPatterns("/question/**", "/answer/**", "/user/**");
+    }
+
+    // 다른 빈보다 먼저 만들어져야 하므로 static 으로 선언합니다.
+    @Bean
+    static BeanPostProcessor profilingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new StatementProfilingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer entityLoadInterceptorCustomizer() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadInterceptor());
+    }
+}
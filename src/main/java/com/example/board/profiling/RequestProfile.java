@@ -0,0 +1,54 @@
+package com.example.board.profiling;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 요청 하나를 처리하는 동안 실행된 SQL 문 수/시간과 엔티티 로딩 수를 모으는 객체입니다.
+// 요청 스레드의 ThreadLocal 에 보관되며, 데이터소스 프록시와 Hibernate 인터셉터가 현재 요청의 값을 늘립니다.
+@Getter
+public class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    // 느린 요청 로그에 남길 최대 SQL 문 수
+    private static final int MAX_RECORDED_STATEMENTS = 50;
+
+    private int statementCount; // 실행된 SQL 문 수 (배치는 1번으로 계산)
+    private long statementNanos; // SQL 실행에 걸린 시간 합계
+    private int entityLoads; // DB 에서 읽어 만든 엔티티 수
+    private final List<String> statements = new ArrayList<>(); // 실행된 SQL 과 실행 시간 (앞에서부터 최대 50개)
+
+    private RequestProfile() {
+    }
+
+    // 현재 스레드에서 새 요청 측정을 시작합니다.
+    static RequestProfile start() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    // 현재 스레드의 측정을 끝냅니다.
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // 측정 중인 요청이 없으면 null (예: 스케줄러, 시작 시 실행되는 작업)
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql, long nanos) {
+        this.statementCount++;
+        this.statementNanos += nanos;
+        if (this.statements.size() < MAX_RECORDED_STATEMENTS) {
+            this.statements.add(String.format("%.1fms %s", nanos / 1_000_000.0, sql));
+        }
+    }
+
+    void recordEntityLoad() {
+        this.entityLoads++;
+    }
+}
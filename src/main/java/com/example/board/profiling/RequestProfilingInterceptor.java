@@ -0,0 +1,118 @@
+package com.example.board.profiling;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// MVC 핸들러(컨트롤러 메서드)별로 처리 시간, 템플릿 렌더링 시간, SQL 문 수/시간, 엔티티 로딩 수를 히스토그램으로 기록합니다.
+// 메트릭 (태그 handler=컨트롤러.메서드):
+//   board.request.handler / board.request.render / board.request.sql.time (타이머)
+//   board.request.sql.statements / board.request.entity.loads (분포)
+// 템플릿별 렌더링 시간은 board.template.render (태그 template=뷰 이름) 로 기록합니다.
+// 처리 시간이 slow-request 를 넘으면 실행된 SQL 과 함께 경고 로그를 남깁니다.
+@Slf4j
+public class RequestProfilingInterceptor implements HandlerInterceptor {
+
+    private static final String STARTED_AT = RequestProfilingInterceptor.class.getName() + ".startedAt";
+    private static final String HANDLED_AT = RequestProfilingInterceptor.class.getName() + ".handledAt";
+    private static final String VIEW_NAME = RequestProfilingInterceptor.class.getName() + ".viewName";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry registry;
+    private final long slowRequestNanos;
+
+    public RequestProfilingInterceptor(MeterRegistry registry, Duration slowRequest) {
+        this.registry = registry;
+        this.slowRequestNanos = slowRequest.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            RequestProfile.start();
+            request.setAttribute(STARTED_AT, System.nanoTime());
+        }
+        return true;
+    }
+
+    // 핸들러가 끝나고 뷰(템플릿)를 렌더링하기 직전에 호출됩니다.
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        request.setAttribute(HANDLED_AT, System.nanoTime());
+        if (modelAndView != null && modelAndView.getViewName() != null && !modelAndView.getViewName().contains(":")) {
+            request.setAttribute(VIEW_NAME, modelAndView.getViewName()); // redirect:/forward: 는 제외
+        }
+    }
+
+    // 렌더링까지 끝난 뒤(예외가 나도) 호출됩니다.
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Long startedAt = (Long) request.getAttribute(STARTED_AT);
+        RequestProfile profile = RequestProfile.current();
+        RequestProfile.end();
+        if (startedAt == null || profile == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        long now = System.nanoTime();
+        Long handledAt = (Long) request.getAttribute(HANDLED_AT); // 예외로 끝났으면 null
+        long handlerNanos = (handledAt != null ? handledAt : now) - startedAt;
+        long renderNanos = handledAt != null ? now - handledAt : 0;
+        String name = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        timer("board.request.handler", "컨트롤러 메서드 처리 시간", name).record(handlerNanos, TimeUnit.NANOSECONDS);
+        if (handledAt != null) {
+            timer("board.request.render", "템플릿 렌더링 시간", name).record(renderNanos, TimeUnit.NANOSECONDS);
+            String viewName = (String) request.getAttribute(VIEW_NAME);
+            if (viewName != null) {
+                Timer.builder("board.template.render").description("템플릿별 렌더링 시간").tag("template", viewName)
+                        .publishPercentileHistogram().publishPercentiles(PERCENTILES)
+                        .register(this.registry).record(renderNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        timer("board.request.sql.time", "요청당 SQL 실행 시간 합계", name).record(profile.getStatementNanos(), TimeUnit.NANOSECONDS);
+        summary("board.request.sql.statements", "요청당 SQL 문 수", name).record(profile.getStatementCount());
+        summary("board.request.entity.loads", "요청당 엔티티 로딩 수", name).record(profile.getEntityLoads());
+
+        long totalNanos = now - startedAt;
+        if (totalNanos >= this.slowRequestNanos) {
+            log.warn("slow request {} {} ({}): total {} ms, handler {} ms, render {} ms, {} statements in {} ms, {} entity loads\n  {}",
+                    request.getMethod(), request.getRequestURI(), name, millis(totalNanos), millis(handlerNanos),
+                    millis(renderNanos), profile.getStatementCount(), millis(profile.getStatementNanos()),
+                    profile.getEntityLoads(), String.join("\n  ", profile.getStatements()));
+        }
+    }
+
+    // 비동기 응답(StreamingResponseBody 등)은 요청 스레드를 벗어나므로 측정하지 않습니다.
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestProfile.end();
+        request.removeAttribute(STARTED_AT);
+    }
+
+    private Timer timer(String name, String description, String handler) {
+        return Timer.builder(name).description(description).tag("handler", handler)
+                .publishPercentileHistogram().publishPercentiles(PERCENTILES)
+                .register(this.registry);
+    }
+
+    private DistributionSummary summary(String name, String description, String handler) {
+        return DistributionSummary.builder(name).description(description).tag("handler", handler)
+                .publishPercentileHistogram().publishPercentiles(PERCENTILES)
+                .register(this.registry);
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
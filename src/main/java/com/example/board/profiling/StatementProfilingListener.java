@@ -0,0 +1,38 @@
+package com.example.board.profiling;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 데이터소스 프록시(datasource-proxy)를 거쳐 실행되는 모든 SQL 문의 실행 시간을 현재 요청에 기록합니다.
+// Hibernate 뿐 아니라 JdbcTemplate 으로 실행한 SQL 도 함께 집계됩니다.
+public class StatementProfilingListener implements QueryExecutionListener {
+
+    // 실행 시작 시각 (프록시는 같은 스레드에서 before/after 를 호출)
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestProfile.current() != null) {
+            this.startedAt.set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long started = this.startedAt.get();
+        RequestProfile profile = RequestProfile.current();
+        if (started == null || profile == null) {
+            return;
+        }
+        this.startedAt.remove();
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (execInfo.isBatch()) {
+            sql = "[batch x" + execInfo.getBatchSize() + "] " + sql;
+        }
+        profile.recordStatement(sql, System.nanoTime() - started);
+    }
+}
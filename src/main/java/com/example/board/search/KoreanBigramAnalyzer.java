@@ -0,0 +1,51 @@
+package com.example.board.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+// 한글(및 한자/가나)을 두 글자씩 겹쳐 자르는(bigram) 분석기입니다.
+// 공백 단위로만 자르면 "스프링부트가"처럼 조사가 붙은 단어에서 "스프링"을 찾을 수 없으므로,
+// "스프/프링/링부/부트/트가"로 색인하고 검색어도 같은 방식으로 잘라 연속된 bigram 을 찾습니다.
+// 영문/숫자는 StandardTokenizer 기준 단어 단위로 소문자 처리합니다.
+public class KoreanBigramAnalyzer extends Analyzer {
+
+    // 분석 대상 문자 종류
+    private static final int SCRIPTS = CJKBigramFilter.HANGUL | CJKBigramFilter.HAN
+            | CJKBigramFilter.HIRAGANA | CJKBigramFilter.KATAKANA;
+
+    // true 면 한 글자(unigram)도 함께 출력합니다. 색인할 때만 켜서 한 글자 검색어도 찾을 수 있게 합니다.
+    private final boolean outputUnigrams;
+
+    private KoreanBigramAnalyzer(boolean outputUnigrams) {
+        this.outputUnigrams = outputUnigrams;
+    }
+
+    // 색인용 분석기 (bigram + unigram)
+    public static KoreanBigramAnalyzer forIndexing() {
+        return new KoreanBigramAnalyzer(true);
+    }
+
+    // 검색어용 분석기 (bigram 만, 한 글자 검색어는 unigram 으로 출력됨)
+    public static KoreanBigramAnalyzer forQuery() {
+        return new KoreanBigramAnalyzer(false);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer source = new StandardTokenizer();
+        TokenStream result = new CJKWidthFilter(source); // 전각/반각 문자 정규화
+        result = new LowerCaseFilter(result);
+        result = new CJKBigramFilter(result, SCRIPTS, this.outputUnigrams);
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(new CJKWidthFilter(in));
+    }
+}
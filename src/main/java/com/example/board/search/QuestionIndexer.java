@@ -0,0 +1,83 @@
+package com.example.board.search;
+
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.Answer.AnswerText;
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.event.BoardEvent;
+import com.example.board.event.BoardEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// DB 의 질문/답변을 검색 색인(QuestionSearchIndex)에 반영하는 컴포넌트입니다.
+// QuestionService / AnswerService 의 쓰기 이벤트를 커밋 후에 받아 질문 단위로 다시 색인합니다.
+// 한 묶음의 이벤트에 같은 질문이 여러 번 나와도 한 번만 다시 색인합니다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class QuestionIndexer implements BoardEventHandler {
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final QuestionSearchIndex questionSearchIndex;
+
+    // 전체 재색인 시 한 번에 읽어올 질문 수
+    @Value("${board.search.reindex-batch-size:500}")
+    private int batchSize;
+
+    // 이벤트가 가리키는 질문들을 현재 DB 상태로 다시 색인합니다. (질문이 없으면 색인에서 삭제)
+    @Override
+    public void handle(List<BoardEvent> events) {
+        reindex(events.stream().map(BoardEvent::getQuestionId).collect(Collectors.toSet()));
+    }
+
+    // 질문들을 작성자와 함께 한 번에 읽어 다시 색인합니다. 없어진 질문은 색인에서 삭제합니다.
+    public void reindex(Set<Integer> questionIds) {
+        List<Question> questions = this.questionRepository.findWithAuthorByIdIn(questionIds);
+        if (!questions.isEmpty()) {
+            index(questions);
+        }
+        Set<Integer> found = questions.stream().map(Question::getId).collect(Collectors.toSet());
+        questionIds.stream().filter(id -> !found.contains(id)).forEach(this.questionSearchIndex::delete);
+    }
+
+    // 전체 질문을 ID 순으로 나누어 읽으며 색인을 처음부터 다시 만듭니다.
+    public void reindexAll() {
+        this.questionSearchIndex.deleteAll();
+        int lastId = 0;
+        int indexed = 0;
+        while (true) {
+            List<Question> questions = this.questionRepository.findWithAuthorAfterId(lastId, PageRequest.of(0, this.batchSize));
+            if (questions.isEmpty()) {
+                break;
+            }
+            index(questions);
+            indexed += questions.size();
+            lastId = questions.get(questions.size() - 1).getId();
+            log.info("search reindex progress: {} questions (last id {})", indexed, lastId);
+        }
+        this.questionSearchIndex.commit();
+        this.questionSearchIndex.refresh();
+        log.info("search reindex finished: {} questions", indexed);
+    }
+
+    // 질문 목록과 그 답변들을 한 번의 답변 조회로 색인합니다.
+    private void index(List<Question> questions) {
+        List<Integer> ids = questions.stream().map(Question::getId).toList();
+        Map<Integer, List<AnswerText>> answersByQuestion = this.answerRepository.findTextsByQuestionIdIn(ids).stream()
+                .collect(Collectors.groupingBy(AnswerText::getQuestionId));
+        for (Question question : questions) {
+            String authorName = question.getAuthor() != null ? question.getAuthor().getUsername() : null;
+            this.questionSearchIndex.update(question.getId(), question.getSubject(), question.getContent(), authorName,
+                    answersByQuestion.getOrDefault(question.getId(), List.of()));
+        }
+    }
+}
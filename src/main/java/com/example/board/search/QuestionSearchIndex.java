@@ -0,0 +1,268 @@
+package com.example.board.search;
+
+import com.example.board.Answer.AnswerText;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.search.highlight.Fragmenter;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.NullFragmenter;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLEncoder;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+// 질문 검색을 위한 Lucene 역색인입니다.
+// 질문 1건을 문서 1개로 색인하며 제목, 본문, 답변 본문, 작성자(질문/답변) 이름을 검색 대상으로 합니다.
+// 변경 사항은 refresh-interval 마다 검색에 반영되고 commit-interval 마다 디스크에 기록됩니다.
+@Slf4j
+@Component
+public class QuestionSearchIndex {
+
+    // 색인 필드 이름
+    static final String ID = "id";
+    static final String SUBJECT = "subject";
+    static final String CONTENT = "content";
+    static final String ANSWERS = "answers";
+    static final String AUTHOR = "author";
+
+    // 검색 대상 필드와 가중치 (제목 일치를 가장 높게 평가)
+    private static final String[] SEARCH_FIELDS = {SUBJECT, CONTENT, ANSWERS, AUTHOR};
+    private static final Map<String, Float> BOOSTS = Map.of(SUBJECT, 3.0f, CONTENT, 1.0f, ANSWERS, 0.7f, AUTHOR, 1.0f);
+
+    // 검색으로 볼 수 있는 최대 결과 수 (이보다 깊은 페이지는 빈 결과, 전체 건수도 이 값까지만 셈)
+    public static final int MAX_RESULTS = 1000;
+
+    // 색인 커밋에 기록하는 분석기 버전. 분석 방식이 바뀌면 값을 올려서 기존 색인을 다시 만들게 합니다.
+    private static final String ANALYZER_KEY = "analyzer";
+    private static final String ANALYZER_VERSION = "korean-bigram-1";
+
+    private final Analyzer analyzer; // 색인/하이라이트용 분석기
+    private final Analyzer queryAnalyzer; // 검색어용 분석기
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // 색인이 없거나 다른 분석기로 만들어져서 전체 재색인이 필요한지 여부
+    @Getter
+    private final boolean rebuildRequired;
+
+    // board.search.index-dir 가 비어 있으면 메모리에 색인합니다. (테스트용)
+    public QuestionSearchIndex(@Value("${board.search.index-dir:}") String indexDir) {
+        this.analyzer = KoreanBigramAnalyzer.forIndexing();
+        this.queryAnalyzer = KoreanBigramAnalyzer.forQuery();
+        try {
+            this.directory = indexDir.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexDir));
+            String indexedWith = DirectoryReader.indexExists(this.directory)
+                    ? SegmentInfos.readLatestCommit(this.directory).getUserData().get(ANALYZER_KEY) : null;
+            this.rebuildRequired = !ANALYZER_VERSION.equals(indexedWith);
+            IndexWriterConfig config = new IndexWriterConfig(this.analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            this.writer = new IndexWriter(this.directory, config);
+            this.writer.setLiveCommitData(Map.of(ANALYZER_KEY, ANALYZER_VERSION).entrySet());
+            this.searcherManager = new SearcherManager(this.writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인을 열 수 없습니다: " + indexDir, e);
+        }
+    }
+
+    // 질문 문서를 추가하거나 교체합니다.
+    public void update(Integer questionId, String subject, String content, String authorName, List<AnswerText> answers) {
+        Document document = new Document();
+        document.add(new StringField(ID, questionId.toString(), Field.Store.YES));
+        document.add(new TextField(SUBJECT, nullToEmpty(subject), Field.Store.YES));
+        document.add(new TextField(CONTENT, nullToEmpty(content), Field.Store.YES));
+        StringJoiner answerContents = new StringJoiner("\n");
+        StringJoiner authors = new StringJoiner(" ");
+        if (authorName != null) {
+            authors.add(authorName);
+        }
+        for (AnswerText answer : answers) {
+            answerContents.add(nullToEmpty(answer.getContent()));
+            if (answer.getAuthorName() != null) {
+                authors.add(answer.getAuthorName());
+            }
+        }
+        document.add(new TextField(ANSWERS, answerContents.toString(), Field.Store.NO));
+        document.add(new TextField(AUTHOR, authors.toString(), Field.Store.NO));
+        try {
+            this.writer.updateDocument(new Term(ID, questionId.toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 질문 문서를 삭제합니다.
+    public void delete(Integer questionId) {
+        try {
+            this.writer.deleteDocuments(new Term(ID, questionId.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 전체 재색인 전에 모든 문서를 삭제합니다.
+    public void deleteAll() {
+        try {
+            this.writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 검색어로 질문을 찾아 점수순으로 한 페이지를 반환합니다.
+    // 상위 MAX_RESULTS 건까지만 볼 수 있으며, 그보다 깊은 페이지는 빈 결과를 반환합니다.
+    public SearchResult search(String keyword, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must be >= 0 and size >= 1");
+        }
+        Query query = parse(keyword);
+        IndexSearcher searcher;
+        try {
+            searcher = this.searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            // 요청 값이 커도 int 를 넘지 않도록 long 으로 계산한 뒤 MAX_RESULTS 로 제한합니다.
+            int from = (int) Math.min((long) page * size, MAX_RESULTS);
+            int numHits = (int) Math.min(((long) page + 1) * size, MAX_RESULTS);
+            // 전체 건수는 MAX_RESULTS 까지 정확히 셉니다. (기본값 1000 을 넘으면 하한값만 주므로 페이지 수가 틀려짐)
+            TopDocs topDocs = searcher.search(query, new TopScoreDocCollectorManager(numHits, MAX_RESULTS));
+            StoredFields storedFields = searcher.storedFields();
+            // 제목은 전체를, 본문은 일치한 부분 주변 120자 정도를 하이라이트합니다.
+            QueryScorer subjectScorer = new QueryScorer(query, SUBJECT);
+            Highlighter subjectHighlighter = highlighter(subjectScorer, new NullFragmenter());
+            QueryScorer contentScorer = new QueryScorer(query, CONTENT);
+            Highlighter contentHighlighter = highlighter(contentScorer, new SimpleSpanFragmenter(contentScorer, 120));
+            List<SearchHit> hits = new ArrayList<>();
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = from; i < scoreDocs.length; i++) {
+                Document document = storedFields.document(scoreDocs[i].doc);
+                hits.add(new SearchHit(Integer.valueOf(document.get(ID)),
+                        subjectHighlighter.getBestFragment(this.analyzer, SUBJECT, document.get(SUBJECT)),
+                        contentHighlighter.getBestFragment(this.analyzer, CONTENT, document.get(CONTENT))));
+            }
+            // 볼 수 있는 결과까지만 페이지를 만들도록 전체 건수도 MAX_RESULTS 로 제한합니다.
+            return new SearchResult(Math.min(topDocs.totalHits.value, MAX_RESULTS), hits);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InvalidTokenOffsetsException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // 색인된 문서 수
+    public int count() {
+        IndexSearcher searcher;
+        try {
+            searcher = this.searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            return searcher.getIndexReader().numDocs();
+        } finally {
+            release(searcher);
+        }
+    }
+
+    // 변경 사항을 검색에 반영합니다.
+    @Scheduled(fixedDelayString = "${board.search.refresh-interval:1000}")
+    public void refresh() {
+        try {
+            this.searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("search index refresh failed", e);
+        }
+    }
+
+    // 변경 사항을 디스크에 기록합니다.
+    @Scheduled(fixedDelayString = "${board.search.commit-interval:30000}")
+    public void commit() {
+        try {
+            if (this.writer.hasUncommittedChanges()) {
+                this.writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("search index commit failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        this.queryAnalyzer.close();
+        this.searcherManager.close();
+        this.writer.close(); // 닫을 때 남은 변경 사항을 커밋합니다.
+        this.directory.close();
+    }
+
+    // 사용자가 입력한 검색어의 특수문자를 이스케이프하고, 모든 단어가 포함된 문서를 찾도록 AND 로 묶습니다.
+    // 한 단어에서 나온 bigram 들은 구문(phrase) 검색으로 묶어 연속으로 나타나는 경우만 찾습니다.
+    private Query parse(String keyword) {
+        MultiFieldQueryParser parser = new MultiFieldQueryParser(SEARCH_FIELDS, this.queryAnalyzer, BOOSTS);
+        parser.setDefaultOperator(QueryParser.Operator.AND);
+        parser.setAutoGeneratePhraseQueries(true);
+        try {
+            return parser.parse(QueryParser.escape(keyword));
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("invalid keyword: " + keyword, e);
+        }
+    }
+
+    private Highlighter highlighter(QueryScorer scorer, Fragmenter fragmenter) {
+        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<mark>", "</mark>"),
+                new SimpleHTMLEncoder(), scorer);
+        highlighter.setTextFragmenter(fragmenter);
+        return highlighter;
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            this.searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("search index release failed", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 결과 한 건: 질문 ID와 하이라이트된 제목/본문 조각입니다.
+// 하이라이트 문자열은 HTML 인코딩된 값에 <mark> 태그만 추가된 것이므로 th:utext 로 출력할 수 있습니다.
+@Getter
+@AllArgsConstructor
+public class SearchHit {
+    private final Integer questionId; // 질문 ID
+    private final String subjectHighlight; // 하이라이트된 제목 (제목에 일치하는 단어가 없으면 null)
+    private final String snippet; // 하이라이트된 본문 조각 (본문에 일치하는 단어가 없으면 null)
+}
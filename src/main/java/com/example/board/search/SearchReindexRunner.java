@@ -0,0 +1,34 @@
+package com.example.board.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// 검색 색인을 DB 기준으로 처음부터 다시 만드는 작업입니다.
+// board.search.reindex=true 로 실행했을 때, 또는 색인이 없거나 다른 분석기로 만들어진 경우에 동작합니다.
+// 예) java -jar board.jar --board.search.reindex=true
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SearchReindexRunner implements ApplicationRunner {
+
+    private final QuestionIndexer questionIndexer;
+    private final QuestionSearchIndex questionSearchIndex;
+
+    @Value("${board.search.reindex:false}")
+    private boolean reindex;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!this.reindex && !this.questionSearchIndex.isRebuildRequired()) {
+            return;
+        }
+        if (!this.reindex) {
+            log.info("search index is missing or was built with another analyzer, rebuilding");
+        }
+        this.questionIndexer.reindexAll();
+    }
+}
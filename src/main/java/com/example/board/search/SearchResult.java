@@ -0,0 +1,14 @@
+package com.example.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 검색 결과 한 페이지: 전체 일치 건수와 순위순 결과 목록입니다.
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+    private final long totalHits; // 전체 일치 건수
+    private final List<SearchHit> hits; // 요청한 페이지의 결과 (점수 높은 순)
+}
@@ -0,0 +1,24 @@
+package com.example.board.session;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 로그아웃으로 폐기된 세션 토큰입니다. 토큰이 만료되면 더 이상 필요 없으므로 삭제됩니다.
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class RevokedSession {
+    @Id
+    @Column(length = 32)
+    private String tokenId;
+
+    private Instant expiresAt; // 토큰 만료 시각
+}
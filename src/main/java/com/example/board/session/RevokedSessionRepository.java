@@ -0,0 +1,22 @@
+package com.example.board.session;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedSessionRepository extends JpaRepository<RevokedSession, String> {
+
+    // 아직 만료되지 않은 폐기 토큰
+    List<RevokedSession> findByExpiresAtAfter(Instant now);
+
+    // 만료된 폐기 토큰을 삭제합니다. (만료된 토큰은 서명 검증 단계에서 거절됨)
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedSession r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
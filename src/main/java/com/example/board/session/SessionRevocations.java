@@ -0,0 +1,51 @@
+package com.example.board.session;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 로그아웃한 세션 토큰의 폐기 목록입니다.
+// 요청마다 확인하는 것은 메모리의 목록이고, 다른 노드에서 폐기한 토큰은 revocation-poll-interval 마다 DB 에서 읽어와 합칩니다.
+// 목록에는 아직 만료되지 않은 토큰만 남으므로 (로그아웃 수 x 토큰 유효 시간) 만큼만 커집니다.
+@Slf4j
+@RequiredArgsConstructor
+public class SessionRevocations {
+
+    private final RevokedSessionRepository revokedSessionRepository;
+
+    // 토큰 ID -> 만료 시각
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(String tokenId) {
+        return this.revoked.containsKey(tokenId);
+    }
+
+    // 토큰을 폐기합니다. 이 노드에는 바로, 다른 노드에는 다음 폴링 때 반영됩니다.
+    public void revoke(String tokenId, Instant expiresAt) {
+        this.revoked.put(tokenId, expiresAt);
+        this.revokedSessionRepository.save(new RevokedSession(tokenId, expiresAt));
+    }
+
+    @Scheduled(fixedDelayString = "${board.session.revocation-poll-interval:5000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        try {
+            for (RevokedSession session : this.revokedSessionRepository.findByExpiresAtAfter(now)) {
+                this.revoked.put(session.getTokenId(), session.getExpiresAt());
+            }
+            this.revokedSessionRepository.deleteExpired(now);
+        } catch (DataAccessException e) {
+            log.warn("session revocation refresh failed", e);
+        }
+        this.revoked.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+    }
+
+    public int size() {
+        return this.revoked.size();
+    }
+}
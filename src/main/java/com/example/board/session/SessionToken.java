@@ -0,0 +1,9 @@
+package com.example.board.session;
+
+import java.time.Instant;
+import java.util.List;
+
+// 서명된 세션 쿠키에 담기는 로그인 정보입니다.
+// id 는 로그아웃할 때 폐기 목록(SessionRevocations)에 올리는 토큰 식별자입니다.
+public record SessionToken(String id, Instant expiresAt, List<String> authorities, String username) {
+}
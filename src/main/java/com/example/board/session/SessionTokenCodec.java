@@ -0,0 +1,96 @@
+package com.example.board.session;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 세션 토큰을 HMAC-SHA256 으로 서명된 짧은 문자열로 만들고 검증합니다.
+// 형식: base64url(토큰ID \n 만료시각(초) \n 권한(,로 구분) \n 사용자 이름) "." base64url(서명)
+// 모든 노드가 같은 비밀 키를 가지면 어느 노드에서든 DB 나 세션 저장소 조회 없이 검증할 수 있습니다.
+public class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+
+    public SessionTokenCodec(byte[] secret, Duration ttl) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("board.session.secret 은 base64 로 인코딩된 " + MIN_SECRET_BYTES + "바이트 이상의 값이어야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttl = ttl;
+    }
+
+    public Duration getTtl() {
+        return this.ttl;
+    }
+
+    // 로그인한 사용자에게 새 토큰을 발급합니다.
+    public SessionToken issue(String username, Collection<String> authorities, Instant now) {
+        byte[] id = new byte[16];
+        this.random.nextBytes(id);
+        return new SessionToken(ENCODER.encodeToString(id), now.plus(this.ttl).truncatedTo(ChronoUnit.SECONDS),
+                List.copyOf(authorities), username);
+    }
+
+    public String encode(SessionToken token) {
+        String payload = String.join("\n", token.id(), Long.toString(token.expiresAt().getEpochSecond()),
+                String.join(",", token.authorities()), token.username());
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(sign(encodedPayload));
+    }
+
+    // 서명이 맞고 만료되지 않은 토큰만 반환합니다. (형식이 잘못된 값도 빈 값)
+    public Optional<SessionToken> decode(String value, Instant now) {
+        int dot = value.indexOf('.');
+        if (dot <= 0) {
+            return Optional.empty();
+        }
+        String encodedPayload = value.substring(0, dot);
+        try {
+            if (!MessageDigest.isEqual(sign(encodedPayload), DECODER.decode(value.substring(dot + 1)))) {
+                return Optional.empty();
+            }
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split("\n", 4);
+            if (fields.length != 4) {
+                return Optional.empty();
+            }
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(fields[1]));
+            if (!now.isBefore(expiresAt)) {
+                return Optional.empty();
+            }
+            List<String> authorities = fields[2].isEmpty() ? List.of() : Arrays.asList(fields[2].split(","));
+            return Optional.of(new SessionToken(fields[0], expiresAt, List.copyOf(authorities), fields[3]));
+        } catch (IllegalArgumentException e) { // 잘못된 base64 또는 숫자
+            return Optional.empty();
+        }
+    }
+
+    // Mac 은 스레드 안전하지 않으므로 매번 새로 만듭니다.
+    private byte[] sign(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.key);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
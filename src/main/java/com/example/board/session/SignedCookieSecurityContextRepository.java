@@ -0,0 +1,118 @@
+package com.example.board.session;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+// 로그인 정보를 HttpSession 대신 서명된 쿠키에 보관하는 SecurityContextRepository 입니다.
+// - 로그인에 성공하면 UserSecurityService 가 만든 사용자의 이름과 권한을 담은 토큰을 쿠키로 내려줍니다.
+// - 요청마다 쿠키의 서명, 만료 시각, 폐기 목록(메모리)만 확인하므로 DB 나 세션 저장소를 조회하지 않습니다.
+// - 로그아웃하면 토큰을 폐기 목록에 올리고 쿠키를 지웁니다.
+public class SignedCookieSecurityContextRepository implements SecurityContextRepository {
+
+    private final SessionTokenCodec codec;
+    private final SessionRevocations revocations;
+    private final String cookieName;
+    private final boolean secureCookie;
+    private final SecurityContextHolderStrategy contextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+
+    public SignedCookieSecurityContextRepository(SessionTokenCodec codec, SessionRevocations revocations,
+                                                 String cookieName, boolean secureCookie) {
+        this.codec = codec;
+        this.revocations = revocations;
+        this.cookieName = cookieName;
+        this.secureCookie = secureCookie;
+    }
+
+    @Override
+    @Deprecated
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        return loadContext(requestResponseHolder.getRequest());
+    }
+
+    private SecurityContext loadContext(HttpServletRequest request) {
+        SecurityContext context = this.contextHolderStrategy.createEmptyContext();
+        readToken(request).ifPresent(token -> {
+            List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList(token.authorities());
+            // 화면에서 #authentication.getPrincipal().getUsername() 을 사용하므로 UserDetails 를 주체로 둡니다.
+            User principal = new User(token.username(), "", authorities);
+            context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities));
+        });
+        return context;
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            // 로그아웃: 현재 토큰을 폐기하고 쿠키를 지웁니다.
+            Optional<SessionToken> current = readToken(request);
+            current.ifPresent(token -> this.revocations.revoke(token.id(), token.expiresAt()));
+            if (current.isPresent() || findCookie(request) != null) {
+                writeCookie(response, "", Duration.ZERO);
+            }
+            return;
+        }
+        // 로그인: 새 토큰을 발급합니다.
+        List<String> authorities = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+        SessionToken token = this.codec.issue(authentication.getName(), authorities, Instant.now());
+        writeCookie(response, this.codec.encode(token), this.codec.getTtl());
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return readToken(request).isPresent();
+    }
+
+    private Optional<SessionToken> readToken(HttpServletRequest request) {
+        Cookie cookie = findCookie(request);
+        if (cookie == null || cookie.getValue().isEmpty()) {
+            return Optional.empty();
+        }
+        return this.codec.decode(cookie.getValue(), Instant.now())
+                .filter(token -> !this.revocations.isRevoked(token.id()));
+    }
+
+    private Cookie findCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (this.cookieName.equals(cookie.getName())) {
+                return cookie;
+            }
+        }
+        return null;
+    }
+
+    private void writeCookie(HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(this.cookieName, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(this.secureCookie)
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.board.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Base64;
+
+// board.session.mode=stateless 일 때 서명된 쿠키 세션에 필요한 빈을 만듭니다. (SecurityConfig 가 사용)
+// 모든 노드가 같은 board.session.secret 을 가져야 하며, 값이 없거나 짧으면 시작하지 않습니다.
+@Configuration
+@ConditionalOnProperty(name = "board.session.mode", havingValue = "stateless")
+public class StatelessSessionConfig {
+
+    @Bean
+    SessionTokenCodec sessionTokenCodec(@Value("${board.session.secret:}") String secret,
+                                        @Value("${board.session.ttl:12h}") Duration ttl) {
+        return new SessionTokenCodec(Base64.getDecoder().decode(secret), ttl);
+    }
+
+    @Bean
+    SessionRevocations sessionRevocations(RevokedSessionRepository revokedSessionRepository) {
+        return new SessionRevocations(revokedSessionRepository);
+    }
+
+    @Bean
+    SignedCookieSecurityContextRepository signedCookieSecurityContextRepository(
+            SessionTokenCodec sessionTokenCodec, SessionRevocations sessionRevocations,
+            @Value("${board.session.cookie-name:BOARD_SESSION}") String cookieName,
+            @Value("${board.session.secure-cookie:false}") boolean secureCookie) {
+        return new SignedCookieSecurityContextRepository(sessionTokenCodec, sessionRevocations, cookieName, secureCookie);
+    }
+}
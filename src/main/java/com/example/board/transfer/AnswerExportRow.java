@@ -0,0 +1,17 @@
+package com.example.board.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내보내기용 답변 조회 모델입니다.
+@Getter
+@AllArgsConstructor // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자입니다.
+public class AnswerExportRow {
+    private final Integer questionId; // 답변이 속한 질문 ID
+    private final String content; // 답변 내용
+    private final String authorName; // 작성자 이름 (작성자가 없으면 null)
+    private final LocalDateTime createDate; // 작성일시
+    private final LocalDateTime modifyDate; // 수정일시
+}
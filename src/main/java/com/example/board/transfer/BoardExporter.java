@@ -0,0 +1,72 @@
+package com.example.board.transfer;
+
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.Question.QuestionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 질문과 답변을 NDJSON 파일(한 줄에 질문 하나)로 내보냅니다.
+// 질문 ID 순 키셋 페이징으로 한 페이지씩 읽으며, 엔티티 대신 필요한 값만 조회하므로 메모리 사용량은 페이지 크기로 제한됩니다.
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardExporter {
+
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final ObjectMapper objectMapper;
+
+    // 한 번에 읽어올 질문 수
+    @Value("${board.transfer.page-size:500}")
+    private int pageSize;
+
+    // 내보낸 질문 수를 반환합니다.
+    public long exportTo(Path file) throws IOException {
+        long exported = 0;
+        long started = System.nanoTime();
+        ObjectWriter recordWriter = this.objectMapper.writerFor(QuestionRecord.class);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            int lastId = 0;
+            while (true) {
+                List<QuestionExportRow> questions = this.questionRepository.findExportRowsAfterId(lastId,
+                        PageRequest.of(0, this.pageSize));
+                if (questions.isEmpty()) {
+                    break;
+                }
+                List<Integer> ids = questions.stream().map(QuestionExportRow::getId).toList();
+                Map<Integer, List<AnswerExportRow>> answersByQuestion = this.answerRepository.findExportRowsByQuestionIdIn(ids)
+                        .stream().collect(Collectors.groupingBy(AnswerExportRow::getQuestionId));
+                for (QuestionExportRow question : questions) {
+                    List<QuestionRecord.AnswerRecord> answers = answersByQuestion.getOrDefault(question.getId(), List.of())
+                            .stream()
+                            .map(a -> new QuestionRecord.AnswerRecord(a.getContent(), a.getAuthorName(),
+                                    a.getCreateDate(), a.getModifyDate()))
+                            .toList();
+                    writer.write(recordWriter.writeValueAsString(new QuestionRecord(question.getSubject(),
+                            question.getContent(), question.getAuthorName(), question.getCreateDate(),
+                            question.getModifyDate(), answers)));
+                    writer.write('\n');
+                }
+                exported += questions.size();
+                lastId = questions.get(questions.size() - 1).getId();
+                log.info("export progress: {} questions (last id {})", exported, lastId);
+            }
+        }
+        log.info("export finished: {} questions to {} in {} s", exported, file, (System.nanoTime() - started) / 1_000_000_000);
+        return exported;
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.board.transfer;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionCountProvider;
+import com.example.board.Question.QuestionListPageCache;
+import com.example.board.search.QuestionIndexer;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserAccount;
+import com.example.board.user.UserCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+// NDJSON 파일(한 줄에 질문 하나, BoardExporter 와 같은 형식)에서 질문과 답변을 가져옵니다.
+// 파일을 한 줄씩 읽어 chunk-size 개 질문마다 한 트랜잭션으로 배치 INSERT 하므로 메모리 사용량은 chunk 크기로 제한됩니다.
+// 처리한 줄 번호는 chunk 와 같은 트랜잭션으로 ImportCheckpoint 테이블에 기록하므로,
+// 중단된 뒤 다시 실행하면 마지막으로 커밋한 chunk 의 다음 줄부터 중복 없이 이어서 가져옵니다.
+// 작성자가 이 게시판에 없을 때의 동작은 board.transfer.missing-author 로 정합니다. (MissingAuthor 참고)
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BoardImporter {
+
+    // 작성자 이름이 이 게시판의 사용자로 없을 때의 동작
+    public enum MissingAuthor {
+        FAIL,        // 해당 chunk 를 롤백하고 줄 번호와 함께 중단 (기본값)
+        PLACEHOLDER, // 같은 이름의 로그인할 수 없는 사용자를 만들어 연결
+        NONE         // 작성자 없이 저장 (건수와 이름을 로그로 남김)
+    }
+
+    // 자리표시 사용자의 비밀번호: BCrypt 형식이 아니므로 어떤 입력과도 일치하지 않아 로그인할 수 없습니다.
+    private static final String PLACEHOLDER_PASSWORD = "!";
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCache userCache;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final QuestionCountProvider questionCountProvider;
+    private final QuestionListPageCache questionListPageCache;
+    private final QuestionIndexer questionIndexer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // 한 트랜잭션으로 저장할 질문 수
+    @Value("${board.transfer.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${board.transfer.missing-author:fail}")
+    private MissingAuthor missingAuthor;
+
+    // 가져온 질문 수를 반환합니다.
+    public long importFrom(Path file) throws IOException {
+        return importFrom(file, this.missingAuthor);
+    }
+
+    public long importFrom(Path file, MissingAuthor missingAuthor) throws IOException {
+        String checkpointKey = file.toAbsolutePath().normalize().toString();
+        long skipLines = this.importCheckpointRepository.findById(checkpointKey).map(ImportCheckpoint::getLineNumber).orElse(0L);
+        if (skipLines > 0) {
+            log.info("import resumes after line {} ({})", skipLines, checkpointKey);
+        }
+        ObjectReader recordReader = this.objectMapper.readerFor(QuestionRecord.class);
+        Authors authors = new Authors(file, missingAuthor);
+        long imported = 0;
+        long started = System.nanoTime();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            List<Line> chunk = new ArrayList<>(this.chunkSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber <= skipLines || line.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(new Line(lineNumber, recordReader.readValue(line)));
+                } catch (JsonProcessingException e) {
+                    throw new IllegalArgumentException("invalid record at line " + lineNumber + " of " + file, e);
+                }
+                if (chunk.size() == this.chunkSize) {
+                    imported += saveChunk(chunk, authors, checkpointKey, lineNumber);
+                    log.info("import progress: {} questions (line {}, {}/s)", imported, lineNumber,
+                            imported * 1_000_000_000L / Math.max(1, System.nanoTime() - started));
+                }
+            }
+            if (!chunk.isEmpty()) {
+                imported += saveChunk(chunk, authors, checkpointKey, lineNumber);
+            }
+        } finally {
+            if (imported > 0) {
+                // 저장소를 직접 사용했으므로 전체 개수, 목록 캐시, 검색 색인을 한 번에 다시 맞춥니다.
+                this.questionCountProvider.resync();
+                this.questionListPageCache.invalidate();
+                this.questionIndexer.reindexAll();
+            }
+        }
+        if (authors.unresolved > 0) {
+            log.warn("import: {} questions/answers had authors missing from this board ({} {}): {}", authors.unresolved,
+                    missingAuthor == MissingAuthor.PLACEHOLDER ? "placeholder users created for" : "saved without author",
+                    authors.missingNames.size(), authors.missingNames);
+        }
+        log.info("import finished: {} questions from {} in {} s (delete its row from import_checkpoint to import the file again)",
+                imported, file, (System.nanoTime() - started) / 1_000_000_000);
+        return imported;
+    }
+
+    // chunk 와 체크포인트를 한 트랜잭션으로 저장한 뒤 chunk 를 비웁니다.
+    private int saveChunk(List<Line> chunk, Authors authors, String checkpointKey, long lineNumber) {
+        this.transactionTemplate.executeWithoutResult(status -> {
+            for (Line line : chunk) {
+                persist(line, authors);
+            }
+            this.importCheckpointRepository.save(new ImportCheckpoint(checkpointKey, lineNumber));
+        });
+        authors.committed();
+        int saved = chunk.size();
+        chunk.clear();
+        return saved;
+    }
+
+    // 질문과 답변을 영속화합니다. INSERT 는 커밋 시 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
+    private void persist(Line line, Authors authors) {
+        QuestionRecord record = line.record();
+        Question question = new Question();
+        question.setSubject(record.subject());
+        question.setContent(record.content());
+        question.setAuthor(author(record.author(), line.number(), authors));
+        question.setCreateDate(record.createDate() != null ? record.createDate() : LocalDateTime.now());
+        question.setModifyDate(record.modifyDate());
+        List<QuestionRecord.AnswerRecord> answers = record.answers() != null ? record.answers() : List.of();
+        question.setAnswerCount(answers.size());
+        this.entityManager.persist(question);
+        for (QuestionRecord.AnswerRecord answerRecord : answers) {
+            Answer answer = new Answer();
+            answer.setContent(answerRecord.content());
+            answer.setAuthor(author(answerRecord.author(), line.number(), authors));
+            answer.setCreateDate(answerRecord.createDate() != null ? answerRecord.createDate() : question.getCreateDate());
+            answer.setModifyDate(answerRecord.modifyDate());
+            answer.setQuestion(question);
+            this.entityManager.persist(answer);
+        }
+    }
+
+    // 작성자 이름을 사용자 캐시로 찾아 참조(프록시)만 만듭니다. 없는 사용자는 MissingAuthor 설정에 따라 처리합니다.
+    private SiteUser author(String username, long lineNumber, Authors authors) {
+        if (username == null) {
+            return null;
+        }
+        Long id = authors.placeholders.get(username);
+        if (id == null) {
+            id = this.userCache.find(username).map(UserAccount::getId).orElse(null);
+        }
+        if (id != null) {
+            return this.entityManager.getReference(SiteUser.class, id);
+        }
+        switch (authors.policy) {
+            case FAIL -> throw new IllegalArgumentException("unknown author '" + username + "' at line " + lineNumber
+                    + " of " + authors.file + " (set board.transfer.missing-author=placeholder or none to import anyway)");
+            case PLACEHOLDER -> {
+                authors.missing(username);
+                SiteUser user = new SiteUser();
+                user.setUsername(username);
+                user.setEmail(username + "@placeholder.invalid");
+                user.setPassword(PLACEHOLDER_PASSWORD);
+                this.entityManager.persist(user);
+                authors.placeholders.put(username, user.getId());
+                return user;
+            }
+            default -> {
+                authors.missing(username);
+                return null;
+            }
+        }
+    }
+
+    // 파일의 줄 번호와 그 줄의 레코드
+    private record Line(long number, QuestionRecord record) {
+    }
+
+    // 한 번의 가져오기에서 찾지 못한 작성자를 셉니다. (chunk 가 롤백되면 그 chunk 의 집계와 자리표시 사용자는 버림)
+    private static final class Authors {
+        private final Path file;
+        private final MissingAuthor policy;
+        private final Map<String, Long> placeholders = new HashMap<>(); // 현재 chunk 에서 만든 자리표시 사용자
+        private final TreeSet<String> missingNames = new TreeSet<>();
+        private final TreeSet<String> chunkNames = new TreeSet<>();
+        private long unresolved;
+        private long chunkUnresolved;
+
+        private Authors(Path file, MissingAuthor policy) {
+            this.file = file;
+            this.policy = policy;
+        }
+
+        private void missing(String username) {
+            this.chunkUnresolved++;
+            this.chunkNames.add(username);
+        }
+
+        // 커밋된 chunk 의 집계를 합칩니다. 자리표시 사용자는 이제 DB 에 있으므로 사용자 캐시로 찾습니다.
+        private void committed() {
+            this.unresolved += this.chunkUnresolved;
+            this.missingNames.addAll(this.chunkNames);
+            this.chunkUnresolved = 0;
+            this.chunkNames.clear();
+            this.placeholders.clear();
+        }
+    }
+}
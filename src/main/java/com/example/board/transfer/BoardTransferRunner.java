@@ -0,0 +1,37 @@
+package com.example.board.transfer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+// 게시판 데이터를 NDJSON 파일로 가져오거나 내보내는 1회성 작업입니다.
+// board.transfer.import / board.transfer.export 에 파일 경로를 지정했을 때만 동작합니다. (내보내기를 먼저 실행)
+// 예) java -jar board.jar --board.transfer.import=/data/board.ndjson
+//     java -jar board.jar --board.transfer.export=/data/board.ndjson
+@RequiredArgsConstructor
+@Component
+public class BoardTransferRunner implements ApplicationRunner {
+
+    private final BoardImporter boardImporter;
+    private final BoardExporter boardExporter;
+
+    @Value("${board.transfer.import:}")
+    private String importFile;
+
+    @Value("${board.transfer.export:}")
+    private String exportFile;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (!this.exportFile.isBlank()) {
+            this.boardExporter.exportTo(Path.of(this.exportFile));
+        }
+        if (!this.importFile.isBlank()) {
+            this.boardImporter.importFrom(Path.of(this.importFile));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.board.transfer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 가져오기 파일별로 마지막으로 커밋한 줄 번호입니다. chunk 와 같은 트랜잭션으로 저장되므로 둘은 항상 함께 반영됩니다.
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ImportCheckpoint {
+    @Id
+    @Column(length = 500)
+    private String file; // 가져오기 파일의 절대 경로
+
+    private long lineNumber; // 이 줄까지 가져옴
+}
@@ -0,0 +1,18 @@
+package com.example.board.transfer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내보내기용 질문 조회 모델입니다. 엔티티(답변 목록, 작성자 엔티티)를 읽지 않고 필요한 값만 가져옵니다.
+@Getter
+@AllArgsConstructor // JPQL 생성자 표현식(select new ...)에서 사용하는 생성자입니다.
+public class QuestionExportRow {
+    private final Integer id; // 질문 ID (키셋 페이징에 사용)
+    private final String subject; // 질문 제목
+    private final String content; // 질문 내용
+    private final String authorName; // 작성자 이름 (작성자가 없으면 null)
+    private final LocalDateTime createDate; // 작성일시
+    private final LocalDateTime modifyDate; // 수정일시
+}
@@ -0,0 +1,14 @@
+package com.example.board.transfer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 가져오기/내보내기 파일(NDJSON)의 한 줄: 질문 하나와 그 답변들입니다.
+// 예) {"subject":"...","content":"...","author":"user1","createDate":"2024-06-01T10:00:00","answers":[...]}
+public record QuestionRecord(String subject, String content, String author, LocalDateTime createDate,
+                             LocalDateTime modifyDate, List<AnswerRecord> answers) {
+
+    // 답변 하나
+    public record AnswerRecord(String content, String author, LocalDateTime createDate, LocalDateTime modifyDate) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.board.user;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+
+// 비밀번호 해시 작업이 밀려 있어서 바로 거절했을 때 던지는 예외입니다.
+// 로그인 중이면 인증 실패 처리기가, 회원가입 중이면 @ResponseStatus 가 503 응답으로 바꿉니다.
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE, reason = "password hashing busy")
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
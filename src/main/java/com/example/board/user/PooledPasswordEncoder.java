@@ -0,0 +1,117 @@
+package com.example.board.user;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// BCrypt 해시/검증을 전용 스레드 풀에서 실행하는 PasswordEncoder 입니다.
+// 요청 스레드는 결과를 기다리기만 하므로, 로그인/회원가입이 몰려도 BCrypt 가 CPU 를 차지하는 스레드 수는 풀 크기로 제한됩니다.
+// 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 PasswordHashingBusyException 으로 바로 거절합니다. (503)
+// 메트릭: password.hashing.active / password.hashing.queued / password.hashing.rejected
+public class PooledPasswordEncoder implements PasswordEncoder, MeterBinder {
+
+    // BCrypt 해시 문자열에서 cost 값을 읽기 위한 패턴 ($2a$10$...)
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength; // BCrypt cost (2^strength 번 반복)
+    private final ThreadPoolExecutor executor;
+    private final long timeoutNanos; // 대기를 포함해 해시 작업을 기다리는 최대 시간
+    private final LongAdder rejected = new LongAdder();
+
+    // threads 가 0 이하면 CPU 코어 수, queueCapacity 가 0 이면 대기열 없이 바로 거절합니다.
+    public PooledPasswordEncoder(int strength, int threads, int queueCapacity, Duration timeout) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> this.delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> this.delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시의 cost 가 설정값과 다르면 로그인 시 새 cost 로 다시 해시하도록 합니다.
+    // (DaoAuthenticationProvider 가 UserDetailsPasswordService 로 저장)
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != this.strength;
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = this.executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            this.rejected.increment();
+            throw new PasswordHashingBusyException("password hashing queue is full", e);
+        }
+        try {
+            return future.get(this.timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true); // 아직 대기열에 있다면 실행하지 않음
+            this.rejected.increment();
+            throw new PasswordHashingBusyException("password hashing timed out", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException; // 잘못된 해시 형식 등은 그대로 전달
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 애플리케이션 종료 시 스프링이 호출합니다. (@Bean 의 destroyMethod 추론)
+    public void close() {
+        this.executor.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("password.hashing.active", this.executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수").register(registry);
+        Gauge.builder("password.hashing.queued", this.executor, executor -> executor.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수").register(registry);
+        FunctionCounter.builder("password.hashing.rejected", this.rejected, LongAdder::sum)
+                .description("대기열이 가득 차거나 시간이 초과되어 거절된 작업 수").register(registry);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.board.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 캐시에 보관하는 사용자 정보입니다.
+// 여러 요청이 함께 읽으므로 엔티티(SiteUser) 대신 바뀌지 않는 값만 담습니다.
+@Getter
+@AllArgsConstructor
+public class UserAccount {
+    private final Long id; // 사용자 ID
+    private final String username; // 사용자 이름
+    private final String password; // 암호화된 비밀번호
+    private final String email; // 이메일
+
+    public static UserAccount of(SiteUser user) {
+        return new UserAccount(user.getId(), user.getUsername(), user.getPassword(), user.getEmail());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.board.user;
+
+import com.example.board.BoundedCache;
+import com.example.board.TransactionCallbacks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+// 사용자 이름으로 사용자 정보(UserAccount)를 보관하는 캐시입니다.
+// 로그인(UserSecurityService)과 글쓰기 요청(UserService.getUser)이 매번 DB 를 조회하지 않도록 합니다.
+// 사용자 정보가 바뀌면 invalidate 로 해당 사용자만 무효화합니다.
+// 메트릭: cache.gets / cache.evictions / cache.size (cache=user)
+@Component
+public class UserCache implements MeterBinder {
+
+    private final UserRepository userRepository;
+    private final BoundedCache<String, UserAccount> cache;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${board.cache.user.max-size:10000}") int maxSize,
+                     @Value("${board.cache.user.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedCache<>("user", maxSize, ttl);
+    }
+
+    // 캐시에서 사용자를 찾고, 없으면 DB 에서 읽어와 저장합니다. (없는 사용자는 캐시하지 않음)
+    public Optional<UserAccount> find(String username) {
+        return Optional.ofNullable(this.cache.get(username,
+                key -> this.userRepository.findByusername(key).map(UserAccount::of).orElse(null)));
+    }
+
+    // 사용자 정보가 바뀌었을 때 호출합니다. (트랜잭션 안이면 커밋 후 한 번 더 실행)
+    public void invalidate(String username) {
+        TransactionCallbacks.nowAndAfterCommit(() -> this.cache.invalidate(username));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.cache.bindTo(registry);
+    }
+}
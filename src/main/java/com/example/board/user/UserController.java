@@ -44,6 +44,8 @@ public class UserController {
             e.printStackTrace();
             bindingResult.reject("signupFailed", "이미 등록된 사용자입니다.");
             return "signup_form"; // 회원가입 폼을 다시 반환
+        } catch (PasswordHashingBusyException e) { // 비밀번호 해시 작업이 밀린 경우는 503 으로 응답
+            throw e;
         } catch (Exception e) { // 기타 예외 처리
             e.printStackTrace();
             bindingResult.reject("signupFailed", e.getMessage());
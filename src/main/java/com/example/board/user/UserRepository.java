@@ -1,9 +1,17 @@
 package com.example.board.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<SiteUser, Long> {
     Optional<SiteUser> findByusername(String username);
-}
\ No newline at end of file
+
+    // 로그인 시 새 cost 로 다시 해시한 비밀번호를 저장합니다. (갱신된 행 수를 반환)
+    @Modifying
+    @Query("update SiteUser u set u.password = :password where u.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+}
@@ -2,38 +2,48 @@ package com.example.board.user;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor // final 필드에 대해 생성자를 자동으로 생성해주는 Lombok 어노테이션입니다.
 @Service // 이 클래스가 서비스 계층의 빈임을 나타냅니다.
-public class UserSecurityService implements UserDetailsService { // Spring Security에서 사용자 인증을 처리하기 위해 UserDetailsService 인터페이스를 구현합니다.
+public class UserSecurityService implements UserDetailsService, UserDetailsPasswordService { // Spring Security에서 사용자 인증을 처리하기 위해 UserDetailsService 인터페이스를 구현합니다.
 
-    private final UserRepository userRepository; // UserRepository 주입
+    private final UserCache userCache; // 사용자 캐시 주입
+    private final UserRepository userRepository; // 비밀번호 재해시 저장용 UserRepository 주입
 
     // 사용자 이름으로 사용자를 로드하는 메서드
+    // 인증 후 비밀번호가 지워지므로(eraseCredentials) 캐시된 값으로 매번 새 User 객체를 만들어 반환합니다.
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Optional<SiteUser> _siteUser = this.userRepository.findByusername(username); // 사용자 이름으로 사용자 조회
-        if (_siteUser.isEmpty()) { // 사용자가 없으면 예외를 던짐
-            throw new UsernameNotFoundException("사용자를 찾을수 없습니다.");
-        }
-        SiteUser siteUser = _siteUser.get(); // Optional에서 사용자 객체를 가져옴
+        UserAccount account = this.userCache.find(username) // 캐시에서 사용자 조회 (없으면 DB 조회)
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을수 없습니다.")); // 사용자가 없으면 예외를 던짐
         List<GrantedAuthority> authorities = new ArrayList<>(); // 사용자 권한 목록을 저장할 리스트
         if ("admin".equals(username)) { // 사용자가 admin이면
             authorities.add(new SimpleGrantedAuthority(UserRole.ADMIN.getValue())); // ADMIN 권한 추가
         } else {
             authorities.add(new SimpleGrantedAuthority(UserRole.USER.getValue())); // USER 권한 추가
         }
-        return new User(siteUser.getUsername(), siteUser.getPassword(), authorities); // UserDetails 객체 반환
+        return new User(account.getUsername(), account.getPassword(), authorities); // UserDetails 객체 반환
+    }
+
+    // 로그인에 성공했고 저장된 해시의 cost 가 설정값과 다를 때 Spring Security 가 호출하는 메서드
+    // 새 cost 로 다시 해시한 비밀번호를 저장하고 사용자 캐시를 무효화합니다.
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        this.userRepository.updatePassword(user.getUsername(), newPassword); // 새 해시 저장
+        this.userCache.invalidate(user.getUsername()); // 캐시된 이전 해시 제거
+        return User.withUserDetails(user).password(newPassword).build(); // 새 해시를 가진 UserDetails 반환
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,180 @@
+package com.example.board.Answer;
+
+import com.example.board.Question.Question;
+import com.example.board.event.BoardEvent;
+import com.example.board.event.BoardEventType;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AnswerLiveUpdatesTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AnswerService answerService;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private SiteUser author;
+
+	@BeforeEach
+	void setUp() {
+		this.author = this.userRepository.findByusername("live-user").orElseGet(() -> {
+			SiteUser user = new SiteUser();
+			user.setUsername("live-user");
+			user.setEmail("live-user@example.com");
+			user.setPassword("password");
+			return this.userRepository.save(user);
+		});
+	}
+
+	@Test
+	void 구독한_질문의_답변_등록_수정_삭제를_받음() throws Exception {
+		Question q = question("실시간 질문");
+		Question other = question("다른 질문");
+		MockHttpServletResponse response = subscribe(q);
+
+		this.answerService.create(other.getId(), "다른 질문의 답변", this.author);
+		this.answerService.create(q.getId(), "실시간 답변", this.author);
+		Integer answerId = this.answerRepository.findPageByQuestionId(q.getId(), PageRequest.of(0, 1)).get(0).getId();
+
+		awaitContent(response, "event:answer\n");
+		String content = response.getContentAsString(StandardCharsets.UTF_8);
+		assertTrue(content.contains("id:" + answerId));
+		assertTrue(content.contains("\"content\":\"실시간 답변\""));
+		assertTrue(content.contains("\"authorName\":\"live-user\""));
+		assertFalse(content.contains("다른 질문의 답변"));
+
+		this.answerService.modify(answerId, q.getId(), "수정된 답변");
+		awaitContent(response, "\"content\":\"수정된 답변\"");
+
+		this.answerService.delete(answerId, q.getId());
+		awaitContent(response, "event:answer-deleted\ndata:" + answerId);
+	}
+
+	@Test
+	void 없는_질문은_구독할_수_없음() throws Exception {
+		this.mockMvc.perform(get("/api/questions/{id}/answers/events", Integer.MAX_VALUE))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void 전송이_멈춘_구독자는_내보내고_다른_구독자에게_계속_전송() throws Exception {
+		// 전송 스레드 1개, 전송 시간 제한 100ms
+		AnswerLiveUpdates liveUpdates = new AnswerLiveUpdates(this.answerRepository, new ObjectMapper(),
+				10, 16, Duration.ofMinutes(1), 1, Duration.ofMillis(100), 4);
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> received = new CopyOnWriteArrayList<>();
+		try {
+			// 읽지 않는 클라이언트: 첫 전송에서 소켓 쓰기가 멈춘 것처럼 기다림
+			liveUpdates.subscribe(1, new SseEmitter() {
+				@Override
+				public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					throw new IOException("closed");
+				}
+			});
+			liveUpdates.subscribe(1, new SseEmitter() {
+				@Override
+				public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+					items.forEach(item -> received.add(item.getData().toString()));
+				}
+			});
+			Thread.sleep(200);
+			assertTrue(received.isEmpty()); // 하나뿐인 전송 스레드가 멈춘 연결에 붙잡혀 있음
+
+			liveUpdates.evictStuckSenders();
+
+			await(() -> received.stream().anyMatch(data -> data.contains("connected")));
+			assertEquals(1, liveUpdates.getSubscriberCount());
+			BoardEvent deleted = new BoardEvent();
+			deleted.setType(BoardEventType.ANSWER_DELETED);
+			deleted.setQuestionId(1);
+			deleted.setAnswerId(42);
+			liveUpdates.handle(List.of(deleted));
+			await(() -> received.stream().anyMatch(data -> data.contains("answer-deleted")));
+		} finally {
+			release.countDown();
+			liveUpdates.close();
+		}
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.currentTimeMillis() < deadline, "condition not met in time");
+			Thread.sleep(20);
+		}
+	}
+
+	private MockHttpServletResponse subscribe(Question q) throws Exception {
+		MvcResult result = this.mockMvc.perform(get("/api/questions/{id}/answers/events", q.getId()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		return result.getResponse();
+	}
+
+	// SSE 본문은 UTF-8 로 쓰입니다. 전송은 전용 스레드에서 일어나므로 내용이 도착할 때까지 잠시 기다립니다.
+	private void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!response.getContentAsString(StandardCharsets.UTF_8).contains(expected)) {
+			assertTrue(System.currentTimeMillis() < deadline, "not received: " + expected);
+			Thread.sleep(20);
+		}
+	}
+
+	private Question question(String subject) {
+		Question q = new Question();
+		q.setSubject(subject);
+		q.setContent("내용무");
+		q.setCreateDate(LocalDateTime.now());
+		q.setAuthor(this.author);
+		return this.questionRepository.save(q);
+	}
+}
@@ -9,6 +9,7 @@ import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -29,13 +30,19 @@ class BoardApplicationTests {
 	@Autowired
 	private QuestionService questionService;
 
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
 	@Test
 	void testJpa() {
-		for (int i = 1; i <= 300; i++) {
-			String subject = String.format("테스트 데이터입니다:[%03d]", i);
-			String content = "내용무";
-			this.questionService.create(subject, content, null);
-		}
+		// 한 트랜잭션으로 묶어야 INSERT 가 JDBC 배치(hibernate.jdbc.batch_size)로 전송됩니다.
+		this.transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 1; i <= 300; i++) {
+				String subject = String.format("테스트 데이터입니다:[%03d]", i);
+				String content = "내용무";
+				this.questionService.create(subject, content, null);
+			}
+		});
 	}
 
 //	@Test
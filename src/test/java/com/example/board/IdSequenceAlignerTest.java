@@ -0,0 +1,53 @@
+package com.example.board;
+
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// IDENTITY 시절의 ID 가 시퀀스보다 앞서 있는 DB 를 흉내 내어 시퀀스를 맞추는지 확인합니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class IdSequenceAlignerTest {
+
+	@Autowired
+	private IdSequenceAligner idSequenceAligner;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void 기존_ID_보다_뒤에서_시퀀스를_다시_시작() {
+		Question q = new Question();
+		q.setSubject("시퀀스 맞추기");
+		q.setContent("내용");
+		q.setCreateDate(LocalDateTime.now());
+		this.questionRepository.save(q);
+		long legacyId = nextValue() + 10_000;
+		this.jdbcTemplate.update("update question set id = ? where id = ?", legacyId, q.getId());
+
+		this.idSequenceAligner.afterPropertiesSet();
+
+		// 다음 nextval 로 받는 ID 구간 (v - 50, v] 이 기존 ID 뒤에 있어야 합니다.
+		assertTrue(nextValue() - 50 >= legacyId);
+
+		// 이미 앞서 있으면 다시 맞춰도 되돌리지 않습니다.
+		long before = nextValue();
+		this.idSequenceAligner.afterPropertiesSet();
+		assertTrue(nextValue() > before);
+	}
+
+	private long nextValue() {
+		return this.jdbcTemplate.queryForObject("select next value for question_seq", Long.class);
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.board.Question;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Answer.AnswerRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QuestionApiControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Test
+	void 질문_목록_필드_선택과_다음_커서() throws Exception {
+		for (int i = 1; i <= 3; i++) {
+			Question q = new Question();
+			q.setSubject("API 테스트 " + i);
+			q.setContent("내용");
+			q.setCreateDate(LocalDateTime.now());
+			this.questionRepository.save(q);
+		}
+
+		MvcResult result = this.mockMvc.perform(get("/api/questions").param("size", "2").param("fields", "id,subject"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		this.mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items", hasSize(2)))
+				.andExpect(jsonPath("$.items[0].subject", notNullValue()))
+				.andExpect(jsonPath("$.items[0].content").doesNotExist())
+				.andExpect(jsonPath("$.items[0].authorName").doesNotExist())
+				.andExpect(jsonPath("$.nextCursor", notNullValue()));
+	}
+
+	@Test
+	void 답변_목록() throws Exception {
+		Question q = new Question();
+		q.setSubject("API 답변 테스트");
+		q.setContent("내용");
+		q.setCreateDate(LocalDateTime.now());
+		this.questionRepository.save(q);
+		Answer a = new Answer();
+		a.setContent("답변");
+		a.setCreateDate(LocalDateTime.now());
+		a.setQuestion(q);
+		this.answerRepository.save(a);
+
+		MvcResult result = this.mockMvc.perform(get("/api/questions/" + q.getId() + "/answers"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		this.mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items", hasSize(1)))
+				.andExpect(jsonPath("$.items[0].content").value("답변"))
+				.andExpect(jsonPath("$.nextCursor").doesNotExist());
+	}
+
+	@Test
+	void 잘못된_요청() throws Exception {
+		this.mockMvc.perform(get("/api/questions").param("fields", "password"))
+				.andExpect(status().isBadRequest());
+		this.mockMvc.perform(get("/api/questions").param("before", "not-a-cursor"))
+				.andExpect(status().isBadRequest());
+		this.mockMvc.perform(get("/api/questions/999999/answers"))
+				.andExpect(status().isNotFound());
+	}
+}
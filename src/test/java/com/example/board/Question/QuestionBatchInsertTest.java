@@ -0,0 +1,53 @@
+package com.example.board.Question;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionBatchInsertTest {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void 질문_300건_저장은_배치로_전송() {
+		List<Question> questions = new ArrayList<>();
+		for (int i = 1; i <= 300; i++) {
+			Question q = new Question();
+			q.setSubject(String.format("배치 저장 테스트:[%03d]", i));
+			q.setContent("내용무");
+			q.setCreateDate(LocalDateTime.now());
+			questions.add(q);
+		}
+		Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		this.transactionTemplate.executeWithoutResult(status -> this.questionRepository.saveAll(questions));
+
+		// IDENTITY 였을 때는 INSERT 문 300번이었지만, 시퀀스 조회(50개씩 할당) 6~7번 + 50건씩 배치 INSERT 6번이면 됩니다.
+		// (시퀀스를 처음 사용할 때는 pooled 최적화가 시작 구간을 잡느라 한 번 더 조회합니다.)
+		assertEquals(300, statistics.getEntityInsertCount());
+		assertTrue(statistics.getPrepareStatementCount() <= 13,
+				"prepared statements: " + statistics.getPrepareStatementCount());
+	}
+}
@@ -0,0 +1,132 @@
+package com.example.board.Question;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QuestionCursorPagingTest {
+
+	// 다른 테스트가 만드는 질문(현재 시각)보다 오래된 구간에 이 테스트의 질문을 둡니다.
+	private static final LocalDateTime BASE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+	// 이 구간의 가장 최신 질문보다 앞에 있는 커서
+	private static final QuestionCursor START = new QuestionCursor(BASE.plusDays(1), Integer.MAX_VALUE);
+
+	private static final int QUESTIONS = 25;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private QuestionService questionService;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@BeforeEach
+	void setUp() {
+		if (!this.questionRepository.findListItemsBefore(START.getCreateDate(), START.getId(), PageRequest.of(0, 1)).isEmpty()) {
+			return;
+		}
+		// 3건씩 작성일시가 같도록 만들어 페이지 경계에 같은 작성일시가 걸치게 합니다.
+		for (int i = 0; i < QUESTIONS; i++) {
+			Question q = new Question();
+			q.setSubject(String.format("커서 페이징 테스트:[%02d]", i));
+			q.setContent("내용");
+			q.setCreateDate(BASE.plusSeconds(i / 3));
+			this.questionRepository.save(q);
+		}
+	}
+
+	@Test
+	void 작성일시가_같아도_빠짐이나_중복_없이_다음_페이지로_이동() {
+		List<Integer> expected = this.questionRepository.findListItemsBefore(START.getCreateDate(), START.getId(),
+				PageRequest.of(0, QUESTIONS + 1)).stream().map(QuestionListItem::getId).toList();
+		assertEquals(QUESTIONS, expected.size());
+
+		List<Integer> walked = new ArrayList<>();
+		QuestionCursorPage page = this.questionService.getListBefore(START);
+		while (true) {
+			page.getContent().forEach(item -> walked.add(item.getId()));
+			if (!page.hasNext()) {
+				break;
+			}
+			page = this.questionService.getListBefore(QuestionCursor.parse(page.getNextCursor()));
+		}
+		assertEquals(expected, walked);
+		assertEquals(QUESTIONS % QuestionService.PAGE_SIZE, page.getContent().size()); // 마지막 페이지
+		assertNull(page.getNextCursor());
+	}
+
+	@Test
+	void 이전_페이지는_최신순으로_뒤집어서_보여줌() {
+		QuestionCursorPage first = this.questionService.getListBefore(START);
+		QuestionCursorPage second = this.questionService.getListBefore(QuestionCursor.parse(first.getNextCursor()));
+		QuestionCursorPage third = this.questionService.getListBefore(QuestionCursor.parse(second.getNextCursor()));
+
+		QuestionCursorPage back = this.questionService.getListAfter(QuestionCursor.parse(third.getPreviousCursor()));
+		assertEquals(ids(second), ids(back));
+		assertEquals(QuestionCursor.of(second.getContent().get(0)).toString(), back.getPreviousCursor());
+		assertEquals(second.getNextCursor(), back.getNextCursor());
+
+		back = this.questionService.getListAfter(QuestionCursor.parse(back.getPreviousCursor()));
+		assertEquals(ids(first), ids(back));
+	}
+
+	@Test
+	void 최신_질문이_한_페이지보다_적게_남으면_첫_페이지를_보여줌() {
+		QuestionCursorPage latest = this.questionService.getListBefore(null);
+		assertNull(latest.getPreviousCursor());
+
+		// 첫 페이지의 네 번째 질문보다 최신인 질문은 세 건뿐입니다.
+		QuestionCursorPage page = this.questionService.getListAfter(QuestionCursor.of(latest.getContent().get(3)));
+		assertEquals(ids(latest), ids(page));
+		assertNull(page.getPreviousCursor());
+		assertNotNull(page.getNextCursor());
+	}
+
+	@Test
+	void 커서_문자열_변환() {
+		QuestionCursor cursor = new QuestionCursor(LocalDateTime.of(2024, 6, 1, 10, 15, 30, 123_000_000), 42);
+		QuestionCursor parsed = QuestionCursor.parse(cursor.toString());
+		assertEquals(cursor.getCreateDate(), parsed.getCreateDate());
+		assertEquals(cursor.getId(), parsed.getId());
+
+		assertThrows(IllegalArgumentException.class, () -> QuestionCursor.parse("not-a-cursor"));
+		assertThrows(IllegalArgumentException.class, () -> QuestionCursor.parse("2024-06-01T10:15:30,abc"));
+		assertThrows(IllegalArgumentException.class, () -> QuestionCursor.parse("2024-13-01T10:15:30,1"));
+	}
+
+	@Test
+	void 잘못된_커서는_400() throws Exception {
+		this.mockMvc.perform(get("/question/list").param("before", "not-a-cursor"))
+				.andExpect(status().isBadRequest());
+		this.mockMvc.perform(get("/question/list").param("after", "2024-06-01T10:15:30,abc"))
+				.andExpect(status().isBadRequest());
+		this.mockMvc.perform(get("/question/list").param("before", "2024-13-01T10:15:30,1"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private static List<Integer> ids(QuestionCursorPage page) {
+		return page.getContent().stream().map(QuestionListItem::getId).toList();
+	}
+}
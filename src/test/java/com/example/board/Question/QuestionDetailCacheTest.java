@@ -0,0 +1,245 @@
+package com.example.board.Question;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.Answer.AnswerService;
+import com.example.board.DataNotFoundException;
+import com.example.board.event.BoardEvent;
+import com.example.board.event.BoardEventDispatcher;
+import com.example.board.event.BoardEventType;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 질문 상세 캐시가 쓰기마다 해당 질문의 (질문 ID, 답변 페이지) 항목만 무효화하는지 SQL 문 수로 확인합니다.
+// 커밋 후 이벤트 처리(검색 색인 등)가 다른 스레드에서 SQL 을 실행하지 않도록 BoardEventDispatcher 는 목(mock)으로 대체합니다.
+@SpringBootTest
+@ActiveProfiles("test")
+class QuestionDetailCacheTest {
+
+	@MockBean
+	private BoardEventDispatcher boardEventDispatcher;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private QuestionService questionService;
+
+	@Autowired
+	private AnswerService answerService;
+
+	@Autowired
+	private QuestionDetailCache questionDetailCache;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private SiteUser author;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		this.author = this.userRepository.findByusername("detail-cache-user").orElseGet(() -> {
+			SiteUser user = new SiteUser();
+			user.setUsername("detail-cache-user");
+			user.setEmail("detail-cache-user@example.com");
+			user.setPassword("password");
+			return this.userRepository.save(user);
+		});
+		this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void 두_번째_조회부터는_캐시에서_응답() {
+		Question q = questionWithAnswers(3);
+
+		this.statistics.clear();
+		this.questionService.getQuestionDetail(q.getId(), 0);
+		assertTrue(this.statistics.getPrepareStatementCount() > 0);
+
+		this.statistics.clear();
+		QuestionDetail cached = this.questionService.getQuestionDetail(q.getId(), 0);
+		assertEquals(0, this.statistics.getPrepareStatementCount());
+		assertEquals(3, cached.getAnswerPaging().getNumberOfElements());
+	}
+
+	@Test
+	void 질문_수정은_그_질문의_모든_답변_페이지만_무효화() {
+		Question q = questionWithAnswers(AnswerService.PAGE_SIZE + 1); // 답변 2페이지
+		Question other = questionWithAnswers(1);
+		warm(q, 0);
+		warm(q, 1);
+		warm(other, 0);
+
+		this.questionService.modify(q.getId(), "수정된 제목", "수정된 내용");
+
+		assertReloaded(q, 0);
+		assertReloaded(q, 1);
+		assertCached(other, 0);
+		assertEquals("수정된 제목", this.questionService.getQuestionDetail(q.getId(), 0).getSubject());
+	}
+
+	@Test
+	void 질문_삭제_후에는_캐시에서_응답하지_않음() {
+		Question q = questionWithAnswers(1);
+		warm(q, 0);
+
+		this.questionService.delete(q.getId());
+
+		assertThrows(DataNotFoundException.class, () -> this.questionService.getQuestionDetail(q.getId(), 0));
+	}
+
+	@Test
+	void 답변_등록_수정_삭제는_그_질문만_무효화() {
+		Question q = questionWithAnswers(1);
+		Question other = questionWithAnswers(1);
+
+		warm(q, 0);
+		warm(other, 0);
+		this.answerService.create(q.getId(), "새 답변", this.author);
+		assertReloaded(q, 0);
+		assertCached(other, 0);
+		assertEquals(2, this.questionService.getQuestionDetail(q.getId(), 0).getAnswerCount());
+
+		Integer answerId = this.questionService.getQuestionDetail(q.getId(), 0).getAnswerPaging().getContent().get(1).getId();
+		this.answerService.modify(answerId, q.getId(), "수정된 답변");
+		assertReloaded(q, 0);
+		assertCached(other, 0);
+		assertEquals("수정된 답변",
+				this.questionService.getQuestionDetail(q.getId(), 0).getAnswerPaging().getContent().get(1).getContent());
+
+		this.answerService.delete(answerId, q.getId());
+		assertReloaded(q, 0);
+		assertCached(other, 0);
+		assertEquals(1, this.questionService.getQuestionDetail(q.getId(), 0).getAnswerCount());
+	}
+
+	@Test
+	void 다른_노드의_쓰기_이벤트는_그_질문만_무효화() {
+		Question q = questionWithAnswers(1);
+		Question other = questionWithAnswers(1);
+		warm(q, 0);
+		warm(other, 0);
+
+		// 다른 노드에서 커밋된 답변 등록이 이벤트로 전달된 상황
+		BoardEvent event = new BoardEvent();
+		event.setType(BoardEventType.ANSWER_SAVED);
+		event.setQuestionId(q.getId());
+		this.questionDetailCache.handle(List.of(event));
+
+		assertReloaded(q, 0);
+		assertCached(other, 0);
+	}
+
+	@Test
+	void 읽는_도중에_무효화되면_읽은_값을_캐시하지_않음() {
+		Question q = questionWithAnswers(1);
+		AtomicInteger loads = new AtomicInteger();
+
+		// 값을 읽는 동안 다른 요청의 쓰기로 무효화된 상황
+		this.questionDetailCache.get(q.getId(), 0, () -> {
+			loads.incrementAndGet();
+			QuestionDetail loaded = load(q, 0);
+			this.questionDetailCache.invalidate(q.getId());
+			return loaded;
+		});
+		this.questionDetailCache.get(q.getId(), 0, () -> {
+			loads.incrementAndGet();
+			return load(q, 0);
+		});
+		this.questionDetailCache.get(q.getId(), 0, () -> {
+			loads.incrementAndGet();
+			return load(q, 0);
+		});
+
+		assertEquals(2, loads.get()); // 오래되었을 수 있는 첫 값은 버리고, 두 번째 값부터 캐시
+	}
+
+	@Test
+	void 적중_실패_횟수를_메트릭으로_집계() {
+		Question q = questionWithAnswers(1);
+		double hits = counter("hit");
+		double misses = counter("miss");
+
+		warm(q, 0);
+		this.questionService.getQuestionDetail(q.getId(), 0);
+		this.questionService.getQuestionDetail(q.getId(), 0);
+
+		assertEquals(misses + 1, counter("miss"));
+		assertEquals(hits + 2, counter("hit"));
+	}
+
+	private void warm(Question q, int answerPage) {
+		this.questionService.getQuestionDetail(q.getId(), answerPage);
+		assertCached(q, answerPage);
+	}
+
+	private void assertCached(Question q, int answerPage) {
+		this.statistics.clear();
+		this.questionService.getQuestionDetail(q.getId(), answerPage);
+		assertEquals(0, this.statistics.getPrepareStatementCount(), "question " + q.getId() + " page " + answerPage + " should be cached");
+	}
+
+	private void assertReloaded(Question q, int answerPage) {
+		this.statistics.clear();
+		this.questionService.getQuestionDetail(q.getId(), answerPage);
+		assertTrue(this.statistics.getPrepareStatementCount() > 0, "question " + q.getId() + " page " + answerPage + " should be reloaded");
+	}
+
+	private QuestionDetail load(Question q, int answerPage) {
+		Question question = this.questionService.getQuestion(q.getId());
+		return QuestionDetail.of(question, this.answerService.getAnswerPage(question, answerPage));
+	}
+
+	private double counter(String result) {
+		return this.meterRegistry.get("cache.gets").tag("cache", "questionDetail").tag("result", result)
+				.functionCounter().count();
+	}
+
+	private Question questionWithAnswers(int answers) {
+		Question q = new Question();
+		q.setSubject("상세 캐시 테스트");
+		q.setContent("내용");
+		q.setCreateDate(LocalDateTime.now());
+		q.setAuthor(this.author);
+		q.setAnswerCount(answers);
+		this.questionRepository.save(q);
+		for (int i = 0; i < answers; i++) {
+			Answer a = new Answer();
+			a.setContent("답변 " + i);
+			a.setCreateDate(LocalDateTime.now().plusNanos(i * 1000L));
+			a.setQuestion(q);
+			a.setAuthor(this.author);
+			this.answerRepository.save(a);
+		}
+		return q;
+	}
+}
@@ -0,0 +1,151 @@
+package com.example.board.Question;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.event.BoardEvent;
+import com.example.board.event.BoardEventType;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QuestionListStatementTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private QuestionCountProvider questionCountProvider;
+
+	@Autowired
+	private QuestionListPageCache questionListPageCache;
+
+	@BeforeEach
+	void setUp() {
+		this.questionListPageCache.invalidate(); // 렌더링 캐시를 비우고 시작
+		if (this.questionRepository.count() > 0) {
+			return;
+		}
+		SiteUser author = new SiteUser();
+		author.setUsername("list-writer");
+		author.setEmail("list-writer@example.com");
+		author.setPassword("password");
+		this.userRepository.save(author);
+		// 목록 한 페이지(10건)보다 많은 질문과 질문마다 답변 2개를 준비합니다.
+		for (int i = 1; i <= 15; i++) {
+			Question q = new Question();
+			q.setSubject(String.format("목록 쿼리 테스트:[%02d]", i));
+			q.setContent("내용무");
+			q.setCreateDate(LocalDateTime.now());
+			q.setAuthor(author);
+			this.questionRepository.save(q);
+			for (int j = 1; j <= 2; j++) {
+				Answer a = new Answer();
+				a.setContent("답변" + j);
+				a.setCreateDate(LocalDateTime.now());
+				a.setQuestion(q);
+				a.setAuthor(author);
+				this.answerRepository.save(a);
+			}
+			q.setAnswerCount(2);
+			this.questionRepository.save(q);
+		}
+		this.questionCountProvider.resync(); // 리포지터리로 직접 저장했으므로 전체 개수를 다시 맞춤
+	}
+
+	@Test
+	void 목록_페이지_렌더링_쿼리_수() throws Exception {
+		Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		this.mockMvc.perform(get("/question/list").param("page", "0"))
+				.andExpect(status().isOk());
+
+		// 전체 개수는 메모리에서 가져오므로 목록 조회 1건 외에는 쿼리가 없어야 합니다.
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+
+		// 같은 페이지를 다시 요청하면 렌더링 캐시에서 응답하므로 쿼리가 없어야 합니다.
+		statistics.clear();
+		this.mockMvc.perform(get("/question/list").param("page", "0"))
+				.andExpect(status().isOk());
+		assertEquals(0, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void 목록이_바뀌지_않았으면_304_응답() throws Exception {
+		String etag = this.mockMvc.perform(get("/question/list"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		this.mockMvc.perform(get("/question/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void ETag_는_내용이_같으면_다시_렌더링해도_같음() throws Exception {
+		String etag = this.mockMvc.perform(get("/question/list"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// 캐시를 새로 만든 다른 노드와 같은 상황이어도 내용이 같으면 304 로 응답합니다.
+		this.questionListPageCache.invalidate();
+		this.mockMvc.perform(get("/question/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void 다른_노드의_쓰기는_이벤트로_무효화() throws Exception {
+		String etag = this.mockMvc.perform(get("/question/list"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// 다른 노드에서 제목을 고친 상황: 이 노드의 캐시는 그대로이므로 이벤트를 받기 전까지는 이전 내용을 보냅니다.
+		Question q = this.questionRepository.findAll().stream()
+				.max(Comparator.comparing(Question::getCreateDate).thenComparing(Question::getId)).orElseThrow();
+		q.setSubject("다른 노드에서 수정한 제목");
+		this.questionRepository.save(q);
+		BoardEvent event = new BoardEvent();
+		event.setType(BoardEventType.QUESTION_SAVED);
+		event.setQuestionId(q.getId());
+		this.questionListPageCache.handle(List.of(event));
+
+		this.mockMvc.perform(get("/question/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("다른 노드에서 수정한 제목")));
+	}
+}
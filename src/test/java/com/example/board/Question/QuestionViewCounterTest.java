@@ -0,0 +1,187 @@
+package com.example.board.Question;
+
+import com.example.board.TemplateWarmUpRunner;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QuestionViewCounterTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private QuestionViewCounter questionViewCounter;
+
+	@Autowired
+	private QuestionService questionService;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private QuestionCountProvider questionCountProvider;
+
+	@Autowired
+	private QuestionListPageCache questionListPageCache;
+
+	@Autowired
+	private TemplateWarmUpRunner templateWarmUpRunner;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private SiteUser author;
+
+	@BeforeEach
+	void setUp() {
+		this.questionViewCounter.flush(); // 다른 테스트에서 쌓인 조회수를 먼저 반영
+		this.author = this.userRepository.findByusername("view-user").orElseGet(() -> {
+			SiteUser user = new SiteUser();
+			user.setUsername("view-user");
+			user.setEmail("view-user@example.com");
+			user.setPassword("password");
+			return this.userRepository.save(user);
+		});
+	}
+
+	@Test
+	void 상세_조회는_DB_를_갱신하지_않고_모았다가_반영() throws Exception {
+		Question q = question("조회수 테스트");
+		Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+		this.mockMvc.perform(get("/question/detail/" + q.getId())).andExpect(status().isOk());
+		statistics.clear();
+		for (int i = 0; i < 4; i++) {
+			this.mockMvc.perform(get("/question/detail/" + q.getId())).andExpect(status().isOk());
+		}
+
+		// 두 번째 요청부터는 상세 캐시에서 응답하고 조회수는 메모리에만 쌓입니다.
+		assertEquals(0, statistics.getPrepareStatementCount());
+		assertEquals(5, this.questionViewCounter.getPendingViews(q.getId()));
+		assertEquals(0, viewCount(q));
+
+		this.questionViewCounter.flush();
+
+		assertEquals(5, viewCount(q));
+		assertEquals(0, this.questionViewCounter.getPendingViews(q.getId()));
+	}
+
+	@Test
+	void 동시에_조회해도_잃지_않음() throws Exception {
+		Question q = question("동시 조회 테스트");
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		for (int i = 0; i < 8; i++) {
+			pool.submit(() -> {
+				for (int j = 0; j < 1000; j++) {
+					this.questionViewCounter.increment(q.getId());
+					if (j % 250 == 0) {
+						this.questionViewCounter.flush(); // 조회 도중에 반영해도 누락되지 않아야 함
+					}
+				}
+			});
+		}
+		pool.shutdown();
+		assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+		this.questionViewCounter.flush();
+
+		assertEquals(8000, viewCount(q));
+	}
+
+	@Test
+	void 조회수_순으로_정렬() throws Exception {
+		Question popular = question("인기 질문");
+		Question quiet = question("조용한 질문");
+		for (int i = 0; i < 1000; i++) {
+			this.questionViewCounter.increment(popular.getId());
+		}
+		this.questionViewCounter.increment(quiet.getId());
+		this.questionViewCounter.flush();
+		this.questionCountProvider.resync();
+
+		QuestionListItem first = this.questionService.getListByViews(0).getContent().get(0);
+		assertEquals(popular.getId(), first.getId());
+		assertEquals(1000L, first.getViewCount());
+
+		this.mockMvc.perform(get("/question/list").param("sort", "views"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("인기 질문")));
+	}
+
+	@Test
+	void 조회수는_목록_캐시가_만료된_뒤에_반영() throws Exception {
+		Question q = question("조회수 목록 테스트");
+		this.questionListPageCache.invalidate(); // 리포지터리로 직접 저장했으므로 목록 캐시를 비움
+		String etag = this.mockMvc.perform(get("/question/list")).andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		// 조회수를 기록해도 렌더링 캐시는 만료될 때까지 그대로 사용합니다.
+		this.questionViewCounter.increment(q.getId());
+		this.questionViewCounter.flush();
+		this.mockMvc.perform(get("/question/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified());
+
+		// 캐시가 만료되어 다시 렌더링하면 내용 해시(ETag)가 바뀌어 새 목록을 보냅니다.
+		this.questionListPageCache.invalidate();
+		this.mockMvc.perform(get("/question/list").header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void 시작할_때_미리_보는_요청은_조회수를_세지_않음() throws Exception {
+		Question q = question("미리 보기 테스트");
+		String token = (String) ReflectionTestUtils.getField(this.templateWarmUpRunner, "token");
+
+		this.mockMvc.perform(get("/question/detail/" + q.getId()).header(TemplateWarmUpRunner.WARM_UP_HEADER, token))
+				.andExpect(status().isOk());
+		assertEquals(0, this.questionViewCounter.getPendingViews(q.getId()));
+
+		// 토큰이 맞지 않으면 일반 조회로 셉니다.
+		this.mockMvc.perform(get("/question/detail/" + q.getId()).header(TemplateWarmUpRunner.WARM_UP_HEADER, "guess"))
+				.andExpect(status().isOk());
+		assertEquals(1, this.questionViewCounter.getPendingViews(q.getId()));
+	}
+
+	private Question question(String subject) {
+		Question q = new Question();
+		q.setSubject(subject);
+		q.setContent("내용무");
+		q.setCreateDate(LocalDateTime.now());
+		q.setAuthor(this.author);
+		return this.questionRepository.save(q);
+	}
+
+	private long viewCount(Question q) {
+		return this.questionRepository.findById(q.getId()).orElseThrow().getViewCount();
+	}
+}
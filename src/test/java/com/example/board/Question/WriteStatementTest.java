@@ -0,0 +1,200 @@
+package com.example.board.Question;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.event.BoardEventDispatcher;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserCache;
+import com.example.board.user.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 글쓰기 요청마다 실행되는 SQL 문 수를 확인합니다. (쓰기마다 이벤트 INSERT 1번 포함)
+// ID 시퀀스 조회는 50번의 INSERT 마다 한 번씩, 앞선 테스트가 남긴 ID 수에 따라 끼어들므로 센 문장 수에서 뺍니다.
+// 이벤트 처리(검색 색인 등)는 커밋 후 별도 스레드의 작업이므로 BoardEventDispatcher 는 목(mock)으로 대체합니다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "write-user")
+class WriteStatementTest {
+
+	@MockBean
+	private BoardEventDispatcher boardEventDispatcher;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserCache userCache;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private SiteUser author;
+
+	private Statistics statistics;
+
+	private long sequenceCallsBefore;
+
+	@BeforeEach
+	void setUp() {
+		this.author = this.userRepository.findByusername("write-user").orElseGet(() -> {
+			SiteUser user = new SiteUser();
+			user.setUsername("write-user");
+			user.setEmail("write-user@example.com");
+			user.setPassword("password");
+			return this.userRepository.save(user);
+		});
+		this.userCache.find("write-user"); // 로그인 후 상태처럼 사용자 캐시를 채워둠
+		this.statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void 질문_등록은_INSERT_2번() throws Exception {
+		startCounting();
+		this.mockMvc.perform(post("/question/create").with(csrf())
+						.param("subject", "쓰기 쿼리 테스트").param("content", "내용"))
+				.andExpect(status().is3xxRedirection());
+		assertEquals(2, statementCount()); // 질문 INSERT, 이벤트 INSERT
+	}
+
+	@Test
+	void 질문_수정은_작성자_확인과_UPDATE() throws Exception {
+		Question question = saveQuestion();
+		startCounting();
+		this.mockMvc.perform(post("/question/modify/" + question.getId()).with(csrf())
+						.param("subject", "수정된 제목").param("content", "수정된 내용"))
+				.andExpect(status().is3xxRedirection());
+		assertEquals(3, statementCount()); // 작성자 확인, UPDATE, 이벤트 INSERT
+		assertEquals(0, this.statistics.getEntityLoadCount());
+	}
+
+	@Test
+	void 질문_삭제는_작성자_확인과_DELETE_2번() throws Exception {
+		Question question = saveQuestion();
+		saveAnswer(question);
+		startCounting();
+		this.mockMvc.perform(get("/question/delete/" + question.getId()))
+				.andExpect(status().is3xxRedirection());
+		assertEquals(4, statementCount()); // 작성자 확인, 답변 DELETE, 질문 DELETE, 이벤트 INSERT
+		assertEquals(0, this.statistics.getEntityLoadCount());
+		assertFalse(this.questionRepository.existsById(question.getId()));
+	}
+
+	@Test
+	void 답변_등록은_답변_개수_UPDATE와_INSERT() throws Exception {
+		Question question = saveQuestion();
+		startCounting();
+		this.mockMvc.perform(post("/answer/create/" + question.getId()).with(csrf())
+						.param("content", "답변 내용"))
+				.andExpect(status().is3xxRedirection());
+		assertEquals(3, statementCount()); // 답변 개수 UPDATE, 답변 INSERT, 이벤트 INSERT
+		assertEquals(0, this.statistics.getEntityLoadCount());
+	}
+
+	@Test
+	void 답변_수정은_작성자_확인과_UPDATE() throws Exception {
+		Answer answer = saveAnswer(saveQuestion());
+		startCounting();
+		this.mockMvc.perform(post("/answer/modify/" + answer.getId()).with(csrf())
+						.param("content", "수정된 답변"))
+				.andExpect(status().is3xxRedirection());
+		assertEquals(3, statementCount()); // 작성자 확인, UPDATE, 이벤트 INSERT
+		assertEquals(0, this.statistics.getEntityLoadCount());
+	}
+
+	@Test
+	void 답변_삭제는_작성자_확인과_DELETE와_답변_개수_UPDATE() throws Exception {
+		Answer answer = saveAnswer(saveQuestion());
+		startCounting();
+		this.mockMvc.perform(get("/answer/delete/" + answer.getId()))
+				.andExpect(status().is3xxRedirection());
+		assertEquals(4, statementCount()); // 작성자 확인, DELETE, 답변 개수 UPDATE, 이벤트 INSERT
+		assertEquals(0, this.statistics.getEntityLoadCount());
+	}
+
+	@Test
+	void 작성자가_아니면_수정할_수_없음() throws Exception {
+		SiteUser other = new SiteUser();
+		other.setUsername("other-user-" + System.nanoTime());
+		other.setEmail(other.getUsername() + "@example.com");
+		other.setPassword("password");
+		this.userRepository.save(other);
+		Question question = saveQuestion();
+		question.setAuthor(other);
+		this.questionRepository.save(question);
+
+		this.mockMvc.perform(post("/question/modify/" + question.getId()).with(csrf())
+						.param("subject", "수정된 제목").param("content", "수정된 내용"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private void startCounting() {
+		this.sequenceCallsBefore = sequenceCalls();
+		this.statistics.clear();
+	}
+
+	// 측정을 시작한 뒤 실행된 SQL 문 수 (ID 시퀀스 조회 제외)
+	private long statementCount() {
+		return this.statistics.getPrepareStatementCount() - (sequenceCalls() - this.sequenceCallsBefore);
+	}
+
+	// 쓰기에 쓰이는 ID 시퀀스들이 지금까지 값을 내어준 횟수 (한 번에 INCREMENT(50)씩 증가)
+	private long sequenceCalls() {
+		return this.jdbcTemplate.queryForObject("select sum(base_value / increment) from information_schema.sequences "
+				+ "where sequence_name in ('QUESTION_SEQ', 'ANSWER_SEQ', 'BOARD_EVENT_SEQ')", Long.class);
+	}
+
+	private Question saveQuestion() {
+		Question q = new Question();
+		q.setSubject("쓰기 쿼리 테스트");
+		q.setContent("내용");
+		q.setCreateDate(LocalDateTime.now());
+		q.setAuthor(this.author);
+		return this.questionRepository.save(q);
+	}
+
+	private Answer saveAnswer(Question question) {
+		Answer a = new Answer();
+		a.setContent("답변");
+		a.setCreateDate(LocalDateTime.now());
+		a.setQuestion(question);
+		a.setAuthor(this.author);
+		this.answerRepository.save(a);
+		question.setAnswerCount(question.getAnswerCount() + 1);
+		this.questionRepository.save(question);
+		return a;
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.board;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticResourceTest {
+
+	private static final Pattern CSS_LINK = Pattern.compile("href=\"(/bootstrap\\.min-[0-9a-f]{32}\\.css)\"");
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	void 정적_파일_링크에_내용_해시가_붙음() throws Exception {
+		String html = this.mockMvc.perform(get("/user/login"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		Matcher matcher = CSS_LINK.matcher(html);
+		assertTrue(matcher.find(), html);
+
+		this.mockMvc.perform(get(matcher.group(1)))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")));
+	}
+
+	@Test
+	void 해시가_없는_이름은_매번_재검증() throws Exception {
+		this.mockMvc.perform(get("/style.css"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, not(containsString("immutable"))));
+	}
+
+	@Test
+	void 미리_압축한_파일을_전송() throws Exception {
+		this.mockMvc.perform(get("/style.css").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)));
+	}
+}
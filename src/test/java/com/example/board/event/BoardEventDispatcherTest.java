@@ -0,0 +1,348 @@
+package com.example.board.event;
+
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionCountProvider;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.Question.QuestionService;
+import com.example.board.search.QuestionSearchIndex;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardEventDispatcherTest {
+
+	@Autowired
+	private QuestionService questionService;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private QuestionCountProvider questionCountProvider;
+
+	@Autowired
+	private QuestionSearchIndex questionSearchIndex;
+
+	@Autowired
+	private BoardEvents boardEvents;
+
+	@Autowired
+	private BoardEventDispatcher boardEventDispatcher;
+
+	@Autowired
+	private BoardEventRepository boardEventRepository;
+
+	@Autowired
+	private BoardEventCursorRepository boardEventCursorRepository;
+
+	@Autowired
+	private RecordingHandler recordingHandler;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private SiteUser author;
+
+	@BeforeEach
+	void setUp() {
+		this.recordingHandler.reset();
+		this.author = this.userRepository.findByusername("event-user").orElseGet(() -> {
+			SiteUser user = new SiteUser();
+			user.setUsername("event-user");
+			user.setEmail("event-user@example.com");
+			user.setPassword("password");
+			return this.userRepository.save(user);
+		});
+	}
+
+	@Test
+	void 커밋된_쓰기는_별도_스레드에서_검색_색인에_반영() throws Exception {
+		this.questionService.create("이벤트로 색인되는 질문", "내용", this.author);
+
+		await(() -> {
+			this.questionSearchIndex.refresh();
+			return this.questionSearchIndex.search("이벤트로 색인되는", 0, 10).getTotalHits() > 0;
+		});
+	}
+
+	@Test
+	void 처리한_이벤트는_남겨_두고_다시_처리하지_않음() throws Exception {
+		Question q = question();
+		this.questionService.modify(q.getId(), "한 번만 처리", "내용");
+
+		await(() -> this.recordingHandler.handled(q.getId()).size() == 1);
+		this.boardEventDispatcher.poll(); // 다음 확인 주기
+		Thread.sleep(200);
+
+		assertEquals(1, this.recordingHandler.handled(q.getId()).size());
+		assertEquals(1, events(q).size()); // 다른 노드도 읽을 수 있도록 지우지 않음
+	}
+
+	@Test
+	void 질문별로_기록된_순서대로_처리() throws Exception {
+		Question q = question();
+		for (int i = 0; i < 5; i++) {
+			this.questionService.modify(q.getId(), "수정 " + i, "내용");
+		}
+
+		await(() -> this.recordingHandler.handled(q.getId()).size() == 5);
+		List<Long> ids = this.recordingHandler.handled(q.getId());
+		List<Long> sorted = new ArrayList<>(ids);
+		Collections.sort(sorted);
+		assertEquals(sorted, ids);
+	}
+
+	@Test
+	void 실패한_질문의_이벤트만_남겼다가_다시_처리() throws Exception {
+		Question failing = question();
+		Question healthy = question();
+		this.recordingHandler.failFor(failing.getId());
+
+		this.questionService.modify(failing.getId(), "실패하는 질문", "내용");
+		this.questionService.modify(healthy.getId(), "정상 질문", "내용");
+
+		await(() -> this.recordingHandler.handled(healthy.getId()).size() == 1);
+		await(() -> this.boardEventDispatcher.getRetrying() == 1);
+		assertTrue(this.recordingHandler.handled(failing.getId()).isEmpty());
+
+		this.recordingHandler.failFor(null);
+		this.boardEventDispatcher.poll(); // 다음 확인 주기
+
+		await(() -> this.recordingHandler.handled(failing.getId()).size() == 1);
+		await(() -> this.boardEventDispatcher.getRetrying() == 0);
+	}
+
+	@Test
+	void 다른_노드도_모든_이벤트를_처리() throws Exception {
+		RecordingHandler nodeBHandler = new RecordingHandler();
+		BoardEventDispatcher nodeB = dispatcher("node-b", nodeBHandler, 10, Duration.ofDays(1));
+		try {
+			Question q = question();
+			this.questionService.modify(q.getId(), "두 노드에서 처리", "내용");
+			nodeB.poll(); // 다른 노드는 주기적인 확인으로 읽음
+
+			await(() -> this.recordingHandler.handled(q.getId()).size() == 1);
+			await(() -> nodeBHandler.handled(q.getId()).size() == 1);
+			assertEquals(this.recordingHandler.handled(q.getId()), nodeBHandler.handled(q.getId()));
+		} finally {
+			nodeB.close();
+		}
+		// 처리 위치는 노드별로 저장됩니다.
+		assertTrue(this.boardEventCursorRepository.existsById("node-b"));
+	}
+
+	@Test
+	void 실패_횟수는_이벤트마다_세어_버림() throws Exception {
+		RecordingHandler nodeBHandler = new RecordingHandler();
+		BoardEventDispatcher nodeB = dispatcher("node-drop", nodeBHandler, 2, Duration.ofDays(1));
+		try {
+			Question q = question();
+			nodeBHandler.failFor(q.getId());
+			this.questionService.modify(q.getId(), "첫 번째", "내용");
+			nodeB.poll();
+			await(() -> nodeB.getRetrying() == 1);
+
+			// 두 번째 확인에서 첫 이벤트는 2번째 실패로 버리고, 새 이벤트는 처음 실패한 것으로 남습니다.
+			this.questionService.modify(q.getId(), "두 번째", "내용");
+			nodeB.poll();
+			await(() -> nodeB.getDropped() == 1);
+			await(() -> nodeB.getRetrying() == 1);
+
+			nodeBHandler.failFor(null);
+			nodeB.poll();
+			await(() -> nodeBHandler.handled(q.getId()).size() == 1);
+			assertEquals(List.of(events(q).get(1).getId()), nodeBHandler.handled(q.getId()));
+		} finally {
+			nodeB.close();
+		}
+	}
+
+	@Test
+	void 처리가_밀리면_남은_이벤트_수와_지연을_보고() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BoardEventHandler slowHandler = events -> {
+			entered.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		};
+		ObjectProvider<BoardEventHandler> handlers = new StaticListableBeanFactory(Map.<String, Object>of("handler", slowHandler))
+				.getBeanProvider(BoardEventHandler.class);
+		BoardEventDispatcher nodeB = new BoardEventDispatcher(this.boardEventRepository, this.boardEventCursorRepository,
+				handlers, "node-slow", 2, 10, Duration.ofSeconds(30), Duration.ofDays(1));
+		try {
+			Question q = question();
+			for (int i = 0; i < 5; i++) {
+				this.questionService.modify(q.getId(), "밀린 이벤트 " + i, "내용");
+			}
+			nodeB.poll();
+			assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+			// 첫 묶음(2건)을 처리하는 동안 뒤에 남은 이벤트까지 밀린 것으로 보고합니다.
+			assertTrue(nodeB.getPending() >= 5, "pending " + nodeB.getPending());
+			long lag = nodeB.getLagMillis();
+			Thread.sleep(50);
+			assertTrue(nodeB.getLagMillis() > lag); // 처리가 멈춰 있는 동안에도 지연은 늘어남
+			assertEquals(0, nodeB.getRetrying());
+		} finally {
+			release.countDown();
+			nodeB.close();
+		}
+		await(() -> nodeB.getPending() == 0);
+	}
+
+	@Test
+	void 보관_기간이_지난_이벤트는_삭제() throws Exception {
+		Question q = question();
+		this.questionService.modify(q.getId(), "삭제될 이벤트", "내용");
+		await(() -> this.recordingHandler.handled(q.getId()).size() == 1);
+
+		BoardEventDispatcher cleaner = dispatcher("node-cleanup", new RecordingHandler(), 10, Duration.ZERO);
+		try {
+			cleaner.cleanup();
+		} finally {
+			cleaner.close();
+		}
+		assertTrue(events(q).isEmpty());
+	}
+
+	@Test
+	void 롤백된_쓰기의_이벤트는_처리하지_않음() throws Exception {
+		Question q = question();
+		this.transactionTemplate.executeWithoutResult(status -> {
+			this.boardEvents.record(BoardEventType.QUESTION_SAVED, q.getId(), null);
+			status.setRollbackOnly();
+		});
+		this.boardEventDispatcher.poll();
+
+		Thread.sleep(200);
+		assertTrue(events(q).isEmpty());
+		assertTrue(this.recordingHandler.handled(q.getId()).isEmpty());
+	}
+
+	@Test
+	void 롤백된_질문_등록_삭제는_전체_개수를_바꾸지_않음() {
+		Question q = question();
+		this.questionCountProvider.resync();
+		long total = this.questionCountProvider.getTotal();
+
+		this.transactionTemplate.executeWithoutResult(status -> {
+			this.questionService.create("롤백되는 질문", "내용", this.author);
+			this.questionService.delete(q.getId());
+			status.setRollbackOnly();
+		});
+
+		assertEquals(total, this.questionCountProvider.getTotal());
+	}
+
+	@Test
+	void 트랜잭션_밖에서는_기록할_수_없음() {
+		assertThrows(IllegalTransactionStateException.class,
+				() -> this.boardEvents.record(BoardEventType.QUESTION_SAVED, 1, null));
+	}
+
+	// 같은 DB 를 쓰는 다른 노드의 처리기를 흉내 냅니다.
+	private BoardEventDispatcher dispatcher(String nodeId, BoardEventHandler handler, int maxAttempts, Duration retention) {
+		ObjectProvider<BoardEventHandler> handlers = new StaticListableBeanFactory(Map.<String, Object>of("handler", handler))
+				.getBeanProvider(BoardEventHandler.class);
+		return new BoardEventDispatcher(this.boardEventRepository, this.boardEventCursorRepository, handlers,
+				nodeId, 500, maxAttempts, Duration.ofSeconds(30), retention);
+	}
+
+	private List<BoardEvent> events(Question q) {
+		return this.boardEventRepository.findAll().stream()
+				.filter(e -> e.getQuestionId().equals(q.getId()))
+				.sorted(Comparator.comparing(BoardEvent::getCreateDate).thenComparing(BoardEvent::getId))
+				.toList();
+	}
+
+	private Question question() {
+		Question q = new Question();
+		q.setSubject("이벤트 테스트");
+		q.setContent("내용");
+		q.setCreateDate(LocalDateTime.now());
+		q.setAuthor(this.author);
+		return this.questionRepository.save(q);
+	}
+
+	// 처리는 전용 스레드에서 일어나므로 조건이 맞을 때까지 잠시 기다립니다.
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			assertFalse(System.currentTimeMillis() > deadline, "condition not met in time");
+			Thread.sleep(20);
+		}
+	}
+
+	@TestConfiguration
+	static class Config {
+		@Bean
+		RecordingHandler recordingHandler() {
+			return new RecordingHandler();
+		}
+	}
+
+	// 처리한 이벤트 ID 를 질문별로 기록하고, 지정한 질문의 이벤트가 있으면 실패하는 처리기
+	static class RecordingHandler implements BoardEventHandler {
+		private final Map<Integer, List<Long>> handled = new ConcurrentHashMap<>();
+		private volatile Integer failingQuestionId;
+
+		@Override
+		public void handle(List<BoardEvent> events) {
+			Integer failing = this.failingQuestionId;
+			if (failing != null && events.stream().anyMatch(e -> failing.equals(e.getQuestionId()))) {
+				throw new IllegalStateException("handler failure for question " + failing);
+			}
+			events.forEach(e -> this.handled.computeIfAbsent(e.getQuestionId(), id -> Collections.synchronizedList(new ArrayList<>()))
+					.add(e.getId()));
+		}
+
+		List<Long> handled(Integer questionId) {
+			return List.copyOf(this.handled.getOrDefault(questionId, List.of()));
+		}
+
+		void failFor(Integer questionId) {
+			this.failingQuestionId = questionId;
+		}
+
+		void reset() {
+			this.handled.clear();
+			this.failingQuestionId = null;
+		}
+	}
+}
@@ -0,0 +1,390 @@
+package com.example.board.load;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionCountProvider;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 게시판 사용 패턴에 가까운 요청을 섞어 보내는 부하 테스트입니다. (메모리 DB 로 애플리케이션을 띄워 실행)
+// 접속자마다 쿠키(세션)를 따로 가지며 다음 요청을 무작위로 섞어 보냅니다. 무작위 값은 board.load.seed 로 고정되어 재현할 수 있습니다.
+//   list    /question/list?page=N       앞쪽 페이지에 몰림 (Zipf)
+//   detail  /question/detail/{id}       일부 인기 질문에 몰림 (Zipf)
+//   login   /user/login                 로그인 화면의 CSRF 토큰으로 로그인
+//   answer  /answer/create/{id}         로그인 후 상세 화면의 CSRF 토큰으로 답변 등록
+// 요청 비율과 기본 접속자 수는 시나리오(Scenario)마다 다릅니다.
+//   board-traffic  list 60% / detail 30% / login 5% / answer 5%, 접속자 200
+//   read-only      list 70% / detail 30%, 접속자 1000 (요청 스레드 모드 비교용: 많은 접속자가 읽기만 할 때)
+// 엔드포인트별 처리량, 지연 시간(p50/p99/p999), 오류율을 출력하고 board.load.report-dir 에 JSON 파일로 남깁니다.
+// 일반 테스트에서는 제외되며 gradle loadTestPlatform / loadTestVirtual 로 실행합니다.
+// (접속자 수: -Dboard.load.clients=N 으로 두 시나리오 모두 변경, 측정 시간: -Dboard.load.duration=30s)
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class BoardTrafficLoadTest {
+
+	private static final int USERS = 100;
+	private static final int QUESTIONS = 1000;
+	private static final int ANSWERS_PER_QUESTION = 5;
+	private static final int LIST_PAGES = 50; // 목록 요청이 분포하는 페이지 수
+	private static final String PASSWORD = "load-password";
+
+	// 폼에 자동으로 들어가는 CSRF 토큰 (<input type="hidden" name="_csrf" value="..."/>)
+	private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+	// 시나리오들이 같은 애플리케이션(컨텍스트)에서 실행되므로 데이터는 한 번만 넣고 질문 ID 순위를 함께 씁니다.
+	private static List<Integer> seededQuestionIds;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private Environment environment;
+
+	@Autowired
+	private PasswordEncoder passwordEncoder;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private QuestionCountProvider questionCountProvider;
+
+	// 부하 시나리오: 요청 비율(%)과 기본 접속자 수
+	private enum Scenario {
+		BOARD_TRAFFIC("board-traffic", 60, 30, 5, 200),
+		READ_ONLY("read-only", 70, 30, 0, 1000);
+
+		private final String name;
+		private final int listPercent;
+		private final int detailPercent;
+		private final int loginPercent; // 나머지는 답변 등록
+		private final int defaultClients;
+
+		Scenario(String name, int listPercent, int detailPercent, int loginPercent, int defaultClients) {
+			this.name = name;
+			this.listPercent = listPercent;
+			this.detailPercent = detailPercent;
+			this.loginPercent = loginPercent;
+			this.defaultClients = defaultClients;
+		}
+	}
+
+	@Test
+	void 게시판_트래픽_부하() throws Exception {
+		run(Scenario.BOARD_TRAFFIC);
+	}
+
+	@Test
+	void 읽기_전용_부하() throws Exception {
+		run(Scenario.READ_ONLY);
+	}
+
+	private void run(Scenario scenario) throws Exception {
+		int clients = Integer.getInteger("board.load.clients", scenario.defaultClients);
+		Duration duration = Duration.parse("PT" + System.getProperty("board.load.duration", "30s"));
+		long seed = Long.getLong("board.load.seed", 42L);
+		Path reportDir = Path.of(System.getProperty("board.load.report-dir", "build/load-reports"));
+		Duration warmup = Duration.ofSeconds(5);
+		List<Integer> questionIds = seed();
+		String baseUrl = "http://localhost:" + this.port;
+		Zipf pages = new Zipf(LIST_PAGES, 1.2);
+		Zipf hotQuestions = new Zipf(questionIds.size(), 1.0);
+
+		ExecutorService pool = Executors.newFixedThreadPool(clients);
+		long measureFrom = System.nanoTime() + warmup.toNanos();
+		long end = measureFrom + duration.toNanos();
+		List<Future<LoadReport.Recorder>> futures = new ArrayList<>();
+		for (int i = 0; i < clients; i++) {
+			Session session = new Session(baseUrl, "load-user-" + (i % USERS + 1), new Random(seed + i), scenario,
+					pages, hotQuestions, questionIds);
+			futures.add(pool.submit(() -> session.run(measureFrom, end)));
+		}
+		LoadReport report = new LoadReport();
+		for (Future<LoadReport.Recorder> future : futures) {
+			report.merge(future.get());
+		}
+		pool.shutdown();
+
+		boolean virtualThreads = this.environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+		Map<String, Object> run = new LinkedHashMap<>();
+		run.put("mode", virtualThreads ? "virtual" : "platform");
+		run.put("java", Runtime.version().toString());
+		run.put("clients", clients);
+		run.put("durationSeconds", duration.toSeconds());
+		run.put("seed", seed);
+		run.put("questions", QUESTIONS);
+		run.put("users", USERS);
+		System.out.printf("scenario=%s %s%n", scenario.name, run);
+		report.print(duration);
+		Path file = report.write(reportDir, scenario.name, run, duration);
+		System.out.printf("report=%s%n", file.toAbsolutePath());
+
+		assertTrue(report.totalSuccesses() > 0);
+	}
+
+	// 접속자 한 명 (쿠키와 로그인 상태를 가짐)
+	private static final class Session {
+
+		private final String baseUrl;
+		private final String username;
+		private final Random random;
+		private final Scenario scenario;
+		private final Zipf pages;
+		private final Zipf hotQuestions;
+		private final List<Integer> questionIds;
+		private final HttpClient httpClient;
+		private final LoadReport.Recorder recorder = new LoadReport.Recorder();
+
+		private boolean loggedIn;
+		private String csrfToken; // 로그인한 뒤 받은 화면의 CSRF 토큰 (로그인하면 토큰이 바뀜)
+		private boolean measuring;
+
+		Session(String baseUrl, String username, Random random, Scenario scenario, Zipf pages, Zipf hotQuestions,
+				List<Integer> questionIds) {
+			this.baseUrl = baseUrl;
+			this.username = username;
+			this.random = random;
+			this.scenario = scenario;
+			this.pages = pages;
+			this.hotQuestions = hotQuestions;
+			this.questionIds = questionIds;
+			this.httpClient = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.cookieHandler(new CookieManager())
+					.followRedirects(HttpClient.Redirect.NEVER)
+					.connectTimeout(Duration.ofSeconds(10))
+					.build();
+		}
+
+		// 준비 시간(measureFrom 이전)의 요청은 기록하지 않습니다.
+		LoadReport.Recorder run(long measureFrom, long end) {
+			while (true) {
+				long now = System.nanoTime();
+				if (now >= end) {
+					break;
+				}
+				this.measuring = now >= measureFrom;
+				int roll = this.random.nextInt(100);
+				if (roll < this.scenario.listPercent) {
+					list();
+				} else if (roll < this.scenario.listPercent + this.scenario.detailPercent) {
+					detail(hotQuestion());
+				} else if (roll < this.scenario.listPercent + this.scenario.detailPercent + this.scenario.loginPercent) {
+					login();
+				} else {
+					answer();
+				}
+			}
+			return this.recorder;
+		}
+
+		private void list() {
+			send("list", get("/question/list?page=" + this.pages.sample(this.random)), 200);
+		}
+
+		private void detail(Integer questionId) {
+			HttpResponse<String> response = send("detail", get("/question/detail/" + questionId), 200);
+			if (response != null && this.loggedIn) {
+				this.csrfToken = csrfToken(response.body());
+			}
+		}
+
+		// 로그인 화면에서 CSRF 토큰을 받아 로그인합니다. 로그인 화면 요청은 기록하지 않습니다.
+		private void login() {
+			HttpResponse<String> page = send(null, get("/user/login"), 200);
+			String token = page == null ? null : csrfToken(page.body());
+			if (token == null) {
+				error("login");
+				return;
+			}
+			HttpResponse<String> response = send("login", post("/user/login",
+					"username", this.username, "password", PASSWORD, "_csrf", token), 302);
+			if (response != null && !response.headers().firstValue("Location").orElse("").contains("error")) {
+				this.loggedIn = true;
+				this.csrfToken = null;
+			}
+		}
+
+		// 로그인하지 않았으면 먼저 로그인하고, 토큰이 없으면 상세 화면을 한 번 본 뒤 답변을 등록합니다.
+		private void answer() {
+			if (!this.loggedIn) {
+				login();
+			}
+			Integer questionId = hotQuestion();
+			if (this.csrfToken == null) {
+				detail(questionId);
+			}
+			if (!this.loggedIn || this.csrfToken == null) {
+				error("answer");
+				return;
+			}
+			send("answer", post("/answer/create/" + questionId,
+					"content", "부하 테스트 답변 " + this.random.nextInt(), "_csrf", this.csrfToken), 302);
+		}
+
+		private Integer hotQuestion() {
+			return this.questionIds.get(this.hotQuestions.sample(this.random));
+		}
+
+		// 요청을 보내고 응답 시간을 기록합니다. 상태 코드가 다르거나 실패하면 오류로 기록하고 null 을 반환합니다.
+		private HttpResponse<String> send(String endpoint, HttpRequest request, int expectedStatus) {
+			long sent = System.nanoTime();
+			HttpResponse<String> response;
+			try {
+				response = this.httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			} catch (Exception e) {
+				response = null;
+			}
+			boolean ok = response != null && response.statusCode() == expectedStatus;
+			if (endpoint != null && this.measuring) {
+				if (ok) {
+					this.recorder.success(endpoint, System.nanoTime() - sent);
+				} else {
+					this.recorder.error(endpoint);
+				}
+			}
+			return ok ? response : null;
+		}
+
+		private void error(String endpoint) {
+			if (this.measuring) {
+				this.recorder.error(endpoint);
+			}
+		}
+
+		private HttpRequest get(String path) {
+			return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+					.timeout(Duration.ofSeconds(30)).GET().build();
+		}
+
+		private HttpRequest post(String path, String... params) {
+			StringBuilder form = new StringBuilder();
+			for (int i = 0; i < params.length; i += 2) {
+				if (form.length() > 0) {
+					form.append('&');
+				}
+				form.append(params[i]).append('=').append(URLEncoder.encode(params[i + 1], StandardCharsets.UTF_8));
+			}
+			return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+					.timeout(Duration.ofSeconds(30))
+					.header("Content-Type", "application/x-www-form-urlencoded")
+					.POST(HttpRequest.BodyPublishers.ofString(form.toString())).build();
+		}
+
+		private static String csrfToken(String html) {
+			Matcher matcher = CSRF_INPUT.matcher(html);
+			return matcher.find() ? matcher.group(1) : null;
+		}
+	}
+
+	// 0 ~ n-1 사이의 값을 Zipf 분포(순위 k 의 확률이 1/(k+1)^s 에 비례)로 뽑습니다.
+	private static final class Zipf {
+
+		private final double[] cumulative;
+
+		Zipf(int n, double s) {
+			this.cumulative = new double[n];
+			double sum = 0;
+			for (int k = 0; k < n; k++) {
+				sum += 1 / Math.pow(k + 1, s);
+				this.cumulative[k] = sum;
+			}
+			for (int k = 0; k < n; k++) {
+				this.cumulative[k] /= sum;
+			}
+		}
+
+		int sample(Random random) {
+			int index = Arrays.binarySearch(this.cumulative, random.nextDouble());
+			return Math.min(index >= 0 ? index : -index - 1, this.cumulative.length - 1);
+		}
+	}
+
+	private List<Integer> seed() {
+		if (seededQuestionIds == null) {
+			seededQuestionIds = insertSeedData();
+		}
+		return seededQuestionIds;
+	}
+
+	private List<Integer> insertSeedData() {
+		String passwordHash = this.passwordEncoder.encode(PASSWORD);
+		List<SiteUser> users = new ArrayList<>();
+		for (int i = 1; i <= USERS; i++) {
+			SiteUser user = new SiteUser();
+			user.setUsername("load-user-" + i);
+			user.setEmail("load-user-" + i + "@example.com");
+			user.setPassword(passwordHash);
+			users.add(user);
+		}
+		this.userRepository.saveAll(users);
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 1; i <= QUESTIONS; i++) {
+			SiteUser author = users.get(i % USERS);
+			Question q = new Question();
+			q.setSubject("부하 테스트 질문 " + i);
+			q.setContent("부하 테스트 내용 " + i);
+			q.setCreateDate(LocalDateTime.now());
+			q.setAuthor(author);
+			q.setAnswerCount(ANSWERS_PER_QUESTION);
+			this.questionRepository.save(q);
+			List<Answer> answers = new ArrayList<>();
+			for (int j = 1; j <= ANSWERS_PER_QUESTION; j++) {
+				Answer a = new Answer();
+				a.setContent("답변 " + j);
+				a.setCreateDate(LocalDateTime.now());
+				a.setQuestion(q);
+				a.setAuthor(users.get((i + j) % USERS));
+				answers.add(a);
+			}
+			this.answerRepository.saveAll(answers);
+			ids.add(q.getId());
+		}
+		// 인기 질문(Zipf 앞쪽 순위)이 최신 질문과 겹치지 않도록 ID 순서를 섞어서 순위를 매깁니다.
+		Collections.shuffle(ids, new Random(Long.getLong("board.load.seed", 42L)));
+		this.questionCountProvider.resync(); // 리포지터리로 직접 저장했으므로 전체 개수를 다시 맞춤
+		return ids;
+	}
+}
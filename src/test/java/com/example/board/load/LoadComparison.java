@@ -0,0 +1,111 @@
+package com.example.board.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+// 플랫폼 스레드 / 가상 스레드 모드의 부하 테스트 결과(LoadReport 파일)를 시나리오별로 비교합니다.
+// 각 시나리오의 모드별 최신 파일을 골라 엔드포인트마다 처리량(req/s)과 p99 를 나란히 출력하고,
+// <reportDir>/comparison-<시각>.json 으로 남깁니다. 두 모드의 접속자 수가 다르면 비교가 의미 없으므로 경고합니다.
+// gradle loadCompare 가 두 모드를 차례로 실행한 뒤 호출합니다. (인자: 결과 디렉터리, 기본값 build/load-reports)
+class LoadComparison {
+
+	private static final String PLATFORM = "platform";
+	private static final String VIRTUAL = "virtual";
+
+	public static void main(String[] args) throws IOException {
+		Path reportDir = Path.of(args.length > 0 ? args[0] : "build/load-reports");
+		ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+		// 시나리오 -> 모드 -> 최신 결과 파일 (파일 이름의 시각이 정렬 순서와 같음)
+		Map<String, Map<String, Path>> latest = new TreeMap<>();
+		List<Path> files;
+		try (Stream<Path> stream = Files.list(reportDir)) {
+			files = stream.filter(file -> file.getFileName().toString().endsWith(".json"))
+					.filter(file -> !file.getFileName().toString().startsWith("comparison-"))
+					.sorted().toList();
+		}
+		for (Path file : files) {
+			JsonNode report = objectMapper.readTree(file.toFile());
+			if (report.hasNonNull("scenario") && report.hasNonNull("mode")) {
+				latest.computeIfAbsent(report.get("scenario").asText(), key -> new TreeMap<>())
+						.put(report.get("mode").asText(), file);
+			}
+		}
+
+		Map<String, Object> comparison = new LinkedHashMap<>();
+		for (Map.Entry<String, Map<String, Path>> entry : latest.entrySet()) {
+			Path platformFile = entry.getValue().get(PLATFORM);
+			Path virtualFile = entry.getValue().get(VIRTUAL);
+			if (platformFile == null || virtualFile == null) {
+				System.out.printf("scenario=%s skipped: needs both %s and %s reports%n", entry.getKey(), PLATFORM, VIRTUAL);
+				continue;
+			}
+			comparison.put(entry.getKey(), compare(entry.getKey(),
+					objectMapper.readTree(platformFile.toFile()), objectMapper.readTree(virtualFile.toFile())));
+		}
+		if (comparison.isEmpty()) {
+			throw new IllegalStateException("no scenario has both platform and virtual reports in " + reportDir.toAbsolutePath());
+		}
+		String time = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+		Path file = reportDir.resolve("comparison-" + time + ".json");
+		objectMapper.writeValue(file.toFile(), comparison);
+		System.out.printf("comparison=%s%n", file.toAbsolutePath());
+	}
+
+	private static Map<String, Object> compare(String scenario, JsonNode platform, JsonNode virtual) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("clients", Map.of(PLATFORM, platform.path("clients").asInt(), VIRTUAL, virtual.path("clients").asInt()));
+		result.put("java", Map.of(PLATFORM, platform.path("java").asText(), VIRTUAL, virtual.path("java").asText()));
+		System.out.printf("scenario=%s clients=%d/%d (platform/virtual)%n", scenario,
+				platform.path("clients").asInt(), virtual.path("clients").asInt());
+		if (platform.path("clients").asInt() != virtual.path("clients").asInt()
+				|| platform.path("durationSeconds").asLong() != virtual.path("durationSeconds").asLong()) {
+			System.out.println("WARNING: runs used different clients or duration");
+		}
+		System.out.printf("%-8s %12s %12s %8s %12s %12s %8s %8s%n", "endpoint",
+				"req/s(plat)", "req/s(virt)", "change", "p99(plat)", "p99(virt)", "change", "err%(v)");
+
+		Map<String, Object> endpoints = new LinkedHashMap<>();
+		Iterator<Map.Entry<String, JsonNode>> fields = platform.path("endpoints").fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			JsonNode p = field.getValue();
+			JsonNode v = virtual.path("endpoints").path(field.getKey());
+			if (v.isMissingNode()) {
+				continue;
+			}
+			double throughputChange = change(p.path("throughput").asDouble(), v.path("throughput").asDouble());
+			double p99Change = change(p.path("p99").asDouble(), v.path("p99").asDouble());
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("throughput", Map.of(PLATFORM, p.path("throughput").asDouble(), VIRTUAL, v.path("throughput").asDouble()));
+			row.put("throughputChange", throughputChange);
+			row.put("p99", Map.of(PLATFORM, p.path("p99").asDouble(), VIRTUAL, v.path("p99").asDouble()));
+			row.put("p99Change", p99Change);
+			row.put("errorRate", Map.of(PLATFORM, p.path("errorRate").asDouble(), VIRTUAL, v.path("errorRate").asDouble()));
+			endpoints.put(field.getKey(), row);
+			System.out.printf("%-8s %12.1f %12.1f %7.1f%% %12.1f %12.1f %7.1f%% %7.2f%%%n", field.getKey(),
+					p.path("throughput").asDouble(), v.path("throughput").asDouble(), throughputChange,
+					p.path("p99").asDouble(), v.path("p99").asDouble(), p99Change, v.path("errorRate").asDouble() * 100);
+		}
+		result.put("endpoints", endpoints);
+		return result;
+	}
+
+	// 플랫폼 대비 가상 스레드 모드의 변화율(%)
+	private static double change(double platform, double virtual) {
+		return platform == 0 ? 0 : Math.round((virtual - platform) / platform * 1000) / 10.0;
+	}
+}
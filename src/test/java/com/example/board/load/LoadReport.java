@@ -0,0 +1,117 @@
+package com.example.board.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 부하 테스트 결과를 엔드포인트별로 모아 출력하고 JSON 파일로 남깁니다.
+// 접속자마다 Recorder 하나를 따로 쓰고(잠금 없음) 측정이 끝난 뒤 합칩니다.
+// 파일의 키 구성은 실행마다 같으므로 이전 결과 파일과 비교해 성능 저하를 확인할 수 있습니다.
+class LoadReport {
+
+	private final Map<String, Stats> endpoints = new LinkedHashMap<>();
+
+	// 접속자 한 명이 기록하는 응답 시간/오류
+	static class Recorder {
+
+		private final Map<String, Stats> endpoints = new LinkedHashMap<>();
+
+		void success(String endpoint, long nanos) {
+			stats(endpoint).latencies.add(nanos);
+		}
+
+		void error(String endpoint) {
+			stats(endpoint).errors++;
+		}
+
+		private Stats stats(String endpoint) {
+			return this.endpoints.computeIfAbsent(endpoint, key -> new Stats());
+		}
+	}
+
+	void merge(Recorder recorder) {
+		recorder.endpoints.forEach((endpoint, stats) -> {
+			Stats total = this.endpoints.computeIfAbsent(endpoint, key -> new Stats());
+			total.latencies.addAll(stats.latencies);
+			total.errors += stats.errors;
+		});
+	}
+
+	// 엔드포인트별 요청 수, 오류율, 처리량(req/s), 지연 시간(ms: p50/p99/p999/max)
+	Map<String, Map<String, Object>> summarize(Duration duration) {
+		Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+		this.endpoints.forEach((endpoint, stats) -> {
+			long[] sorted = stats.latencies.stream().mapToLong(Long::longValue).toArray();
+			Arrays.sort(sorted);
+			long requests = sorted.length + stats.errors;
+			Map<String, Object> row = new LinkedHashMap<>();
+			row.put("requests", requests);
+			row.put("errors", stats.errors);
+			row.put("errorRate", requests == 0 ? 0.0 : stats.errors / (double) requests);
+			row.put("throughput", round(sorted.length / (double) duration.toSeconds()));
+			row.put("p50", percentile(sorted, 0.50));
+			row.put("p99", percentile(sorted, 0.99));
+			row.put("p999", percentile(sorted, 0.999));
+			row.put("max", percentile(sorted, 1.0));
+			summary.put(endpoint, row);
+		});
+		return summary;
+	}
+
+	void print(Duration duration) {
+		System.out.printf("%-8s %9s %7s %8s %10s %9s %9s %9s %9s%n",
+				"endpoint", "requests", "errors", "err%", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+		summarize(duration).forEach((endpoint, row) -> System.out.printf("%-8s %9d %7d %7.2f%% %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+				endpoint, row.get("requests"), row.get("errors"), (double) row.get("errorRate") * 100, row.get("throughput"),
+				row.get("p50"), row.get("p99"), row.get("p999"), row.get("max")));
+	}
+
+	long totalErrors() {
+		return this.endpoints.values().stream().mapToLong(stats -> stats.errors).sum();
+	}
+
+	long totalSuccesses() {
+		return this.endpoints.values().stream().mapToLong(stats -> stats.latencies.size()).sum();
+	}
+
+	// 결과 파일을 <reportDir>/<scenario>-<mode>-<시각>.json 으로 기록하고 경로를 반환합니다.
+	Path write(Path reportDir, String scenario, Map<String, Object> run, Duration duration) throws IOException {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("scenario", scenario);
+		report.putAll(run);
+		report.put("endpoints", summarize(duration));
+		Files.createDirectories(reportDir);
+		String time = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+		Path file = reportDir.resolve(scenario + "-" + run.get("mode") + "-" + time + ".json");
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+		return file;
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return round(sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0);
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 10) / 10.0;
+	}
+
+	private static class Stats {
+		private final List<Long> latencies = new ArrayList<>(); // 성공한 요청의 응답 시간 (나노초)
+		private long errors;
+	}
+}
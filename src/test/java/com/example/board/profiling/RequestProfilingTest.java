@@ -0,0 +1,124 @@
+package com.example.board.profiling;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionListPageCache;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 요청별 SQL 측정값(board.request.*)으로 화면마다 SQL 문 수 예산을 지키는지 확인합니다.
+// 답변 수에 따라 SQL 문 수가 늘어나면(N+1) 실패합니다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RequestProfilingTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private QuestionListPageCache questionListPageCache;
+
+	@Test
+	void 질문_상세의_SQL_문_수는_답변_수와_무관() throws Exception {
+		SiteUser author = author();
+		Question few = question(author, 1);
+		Question many = question(author, 20);
+
+		double fewStatements = statementsOf("QuestionController.detail", "/question/detail/" + few.getId());
+		double manyStatements = statementsOf("QuestionController.detail", "/question/detail/" + many.getId());
+
+		assertEquals(fewStatements, manyStatements);
+		assertTrue(manyStatements <= 4, "detail statements: " + manyStatements);
+	}
+
+	@Test
+	void 질문_목록은_SQL_1번() throws Exception {
+		question(author(), 2);
+		this.questionListPageCache.invalidate(); // 렌더링 캐시를 비워서 실제로 조회하게 함
+
+		assertEquals(1, statementsOf("QuestionController.list", "/question/list"));
+	}
+
+	@Test
+	void 처리_시간과_렌더링_시간을_기록() throws Exception {
+		this.mockMvc.perform(get("/question/list")).andExpect(status().isOk());
+
+		assertNotNull(this.meterRegistry.find("board.request.handler").tag("handler", "QuestionController.list").timer());
+		assertNotNull(this.meterRegistry.find("board.request.render").tag("handler", "QuestionController.list").timer());
+		assertNotNull(this.meterRegistry.find("board.request.sql.time").tag("handler", "QuestionController.list").timer());
+		assertNotNull(this.meterRegistry.find("board.template.render").tag("template", "question_list").timer());
+	}
+
+	// 요청 1건을 보내고 그 요청에서 실행된 SQL 문 수를 메트릭의 증가분으로 구합니다.
+	private double statementsOf(String handler, String uri) throws Exception {
+		double before = totalStatements(handler);
+		this.mockMvc.perform(get(uri)).andExpect(status().isOk());
+		return totalStatements(handler) - before;
+	}
+
+	private double totalStatements(String handler) {
+		DistributionSummary summary = this.meterRegistry.find("board.request.sql.statements")
+				.tag("handler", handler).summary();
+		return summary == null ? 0 : summary.totalAmount();
+	}
+
+	private SiteUser author() {
+		return this.userRepository.findByusername("profile-user").orElseGet(() -> {
+			SiteUser user = new SiteUser();
+			user.setUsername("profile-user");
+			user.setEmail("profile-user@example.com");
+			user.setPassword("password");
+			return this.userRepository.save(user);
+		});
+	}
+
+	private Question question(SiteUser author, int answers) {
+		Question q = new Question();
+		q.setSubject("측정 테스트 질문");
+		q.setContent("내용무");
+		q.setCreateDate(LocalDateTime.now());
+		q.setAuthor(author);
+		this.questionRepository.save(q);
+		for (int i = 1; i <= answers; i++) {
+			Answer a = new Answer();
+			a.setContent("답변" + i);
+			a.setCreateDate(LocalDateTime.now());
+			a.setQuestion(q);
+			a.setAuthor(author);
+			this.answerRepository.save(a);
+		}
+		q.setAnswerCount(answers);
+		return this.questionRepository.save(q);
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.board.search;
+
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 생성한 한국어 말뭉치로 검색 색인과 기존 제목 LIKE 검색(findBySubjectLike)의 지연 시간과 재현율을 비교합니다.
+// 일반 테스트에서는 제외되며 gradle benchmark 로 실행합니다. (말뭉치 크기: -Dboard.benchmark.questions=20000)
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class KoreanSearchBenchmarkTest {
+
+	// 명사 뒤에 조사가 붙은 형태로 문장을 만들어 공백 단위로는 명사를 찾을 수 없게 합니다.
+	private static final String[] NOUNS = {"스프링", "데이터베이스", "게시판", "트랜잭션", "인덱스", "페이징", "캐시",
+			"템플릿", "보안", "세션", "쿼리", "엔티티", "서버", "배포", "로그인", "답변", "검색", "성능", "테스트", "설정"};
+	private static final String[] PARTICLES = {"은", "는", "이", "가", "을", "를", "에서", "으로", "의", "와", "도", "만"};
+	private static final String[] PREDICATES = {"안 됩니다", "궁금합니다", "느립니다", "어떻게 하나요", "오류가 납니다",
+			"설명해 주세요", "바뀌었습니다", "필요합니다"};
+
+	private static final int SEARCH_PAGE_SIZE = 10;
+	private static final int REPEAT = 20; // 검색어마다 반복 실행해 평균 지연 시간을 구합니다.
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private QuestionIndexer questionIndexer;
+
+	@Autowired
+	private QuestionSearchIndex questionSearchIndex;
+
+	@Test
+	void 한국어_검색_색인과_LIKE_검색_비교() {
+		int size = Integer.getInteger("board.benchmark.questions", 20000);
+		List<Question> corpus = generateCorpus(size, new Random(42));
+		for (int from = 0; from < corpus.size(); from += 1000) {
+			this.questionRepository.saveAll(corpus.subList(from, Math.min(from + 1000, corpus.size())));
+		}
+		this.questionIndexer.reindexAll();
+
+		System.out.printf("questions=%d%n", size);
+		System.out.printf("%-8s %8s %10s %10s %10s %10s%n", "keyword", "relevant", "index(ms)", "like(ms)",
+				"index-rec", "like-rec");
+		double indexRecallSum = 0;
+		double likeRecallSum = 0;
+		for (String noun : NOUNS) {
+			// 정답: 제목이나 본문에 명사가 포함된 질문
+			Set<Integer> relevant = new HashSet<>();
+			for (Question q : corpus) {
+				if (q.getSubject().contains(noun) || q.getContent().contains(noun)) {
+					relevant.add(q.getId());
+				}
+			}
+
+			// 색인 검색: 결과 전체를 가져오도록 정답 수만큼 요청합니다.
+			int limit = Math.max(relevant.size(), SEARCH_PAGE_SIZE);
+			Set<Integer> indexFound = new HashSet<>();
+			for (SearchHit hit : this.questionSearchIndex.search(noun, 0, limit).getHits()) {
+				indexFound.add(hit.getQuestionId());
+			}
+			long indexNanos = measure(() -> this.questionSearchIndex.search(noun, 0, SEARCH_PAGE_SIZE));
+
+			Set<Integer> likeFound = new HashSet<>();
+			for (Question q : this.questionRepository.findBySubjectLike("%" + noun + "%")) {
+				likeFound.add(q.getId());
+			}
+			long likeNanos = measure(() -> this.questionRepository.findBySubjectLike("%" + noun + "%"));
+
+			double indexRecall = recall(relevant, indexFound);
+			double likeRecall = recall(relevant, likeFound);
+			indexRecallSum += indexRecall;
+			likeRecallSum += likeRecall;
+			System.out.printf("%-8s %8d %10.3f %10.3f %10.3f %10.3f%n", noun, relevant.size(),
+					indexNanos / 1_000_000.0, likeNanos / 1_000_000.0, indexRecall, likeRecall);
+		}
+		System.out.printf("average recall: index=%.3f like=%.3f%n",
+				indexRecallSum / NOUNS.length, likeRecallSum / NOUNS.length);
+
+		// 조사가 붙은 명사도 찾아야 하므로 색인 검색의 재현율이 제목 LIKE 검색보다 낮으면 안 됩니다.
+		assertTrue(indexRecallSum >= likeRecallSum);
+	}
+
+	private static List<Question> generateCorpus(int size, Random random) {
+		List<Question> corpus = new ArrayList<>(size);
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < size; i++) {
+			Question q = new Question();
+			q.setSubject(sentence(random));
+			StringBuilder content = new StringBuilder();
+			int sentences = 2 + random.nextInt(4);
+			for (int j = 0; j < sentences; j++) {
+				content.append(sentence(random)).append(". ");
+			}
+			q.setContent(content.toString().trim());
+			q.setCreateDate(now.minusSeconds(size - i));
+			corpus.add(q);
+		}
+		return corpus;
+	}
+
+	// 예) "스프링에서 트랜잭션이 안 됩니다"
+	private static String sentence(Random random) {
+		return word(random) + " " + word(random) + " " + PREDICATES[random.nextInt(PREDICATES.length)];
+	}
+
+	private static String word(Random random) {
+		return NOUNS[random.nextInt(NOUNS.length)] + PARTICLES[random.nextInt(PARTICLES.length)];
+	}
+
+	private static long measure(Runnable query) {
+		query.run(); // 준비 실행
+		long start = System.nanoTime();
+		for (int i = 0; i < REPEAT; i++) {
+			query.run();
+		}
+		return (System.nanoTime() - start) / REPEAT;
+	}
+
+	private static double recall(Set<Integer> relevant, Set<Integer> found) {
+		if (relevant.isEmpty()) {
+			return 1.0;
+		}
+		long matched = relevant.stream().filter(found::contains).count();
+		return (double) matched / relevant.size();
+	}
+}
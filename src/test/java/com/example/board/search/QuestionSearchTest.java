@@ -0,0 +1,208 @@
+package com.example.board.search;
+
+import com.example.board.Answer.AnswerText;
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.Question.QuestionService;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 검색 색인(메모리, board.search.index-dir=)의 순위, 페이징, 하이라이트와 쓰기/재색인 반영을 확인합니다.
+// 색인에 직접 넣는 문서는 DB 의 질문과 겹치지 않도록 큰 ID 를 사용하고, 검색어는 테스트마다 다른 단어를 씁니다.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QuestionSearchTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private QuestionSearchIndex questionSearchIndex;
+
+	@Autowired
+	private QuestionIndexer questionIndexer;
+
+	@Autowired
+	private QuestionService questionService;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private SiteUser author;
+
+	@BeforeEach
+	void setUp() {
+		this.author = this.userRepository.findByusername("search-user").orElseGet(() -> {
+			SiteUser user = new SiteUser();
+			user.setUsername("search-user");
+			user.setEmail("search-user@example.com");
+			user.setPassword("password");
+			return this.userRepository.save(user);
+		});
+	}
+
+	@Test
+	void 제목_일치가_본문_답변_일치보다_앞선다() {
+		this.questionSearchIndex.update(2_000_000_001, "다른 제목", "본문에 얼룩말 있음", null, List.of());
+		this.questionSearchIndex.update(2_000_000_002, "얼룩말 질문", "내용", null, List.of());
+		this.questionSearchIndex.update(2_000_000_003, "다른 제목", "내용",
+				null, List.of(new AnswerText(2_000_000_003, "답변에 얼룩말", "someone")));
+		this.questionSearchIndex.refresh();
+
+		SearchResult result = this.questionSearchIndex.search("얼룩말", 0, 10);
+
+		assertEquals(3, result.getTotalHits());
+		assertEquals(2_000_000_002, result.getHits().get(0).getQuestionId()); // 제목 가중치가 가장 높음
+		assertEquals(Set.of(2_000_000_001, 2_000_000_003),
+				Set.of(result.getHits().get(1).getQuestionId(), result.getHits().get(2).getQuestionId()));
+	}
+
+	@Test
+	void 페이지_단위로_나누어_반환() {
+		for (int i = 0; i < 5; i++) {
+			this.questionSearchIndex.update(2_000_000_100 + i, "고슴도치 " + i, "내용", null, List.of());
+		}
+		this.questionSearchIndex.refresh();
+
+		SearchResult first = this.questionSearchIndex.search("고슴도치", 0, 2);
+		SearchResult last = this.questionSearchIndex.search("고슴도치", 2, 2);
+
+		assertEquals(5, first.getTotalHits());
+		assertEquals(2, first.getHits().size());
+		assertEquals(1, last.getHits().size());
+	}
+
+	@Test
+	void 검색_깊이를_넘는_페이지는_빈_결과() {
+		for (int i = 0; i < QuestionSearchIndex.MAX_RESULTS + 5; i++) {
+			this.questionSearchIndex.update(2_000_010_000 + i, "청설모 " + i, "내용", null, List.of());
+		}
+		this.questionSearchIndex.refresh();
+
+		// 전체 건수는 볼 수 있는 결과 수까지로 제한되고, int 를 넘는 페이지 요청도 예외 없이 빈 결과를 반환합니다.
+		SearchResult last = this.questionSearchIndex.search("청설모", QuestionSearchIndex.MAX_RESULTS / 10 - 1, 10);
+		assertEquals(QuestionSearchIndex.MAX_RESULTS, last.getTotalHits());
+		assertEquals(10, last.getHits().size());
+		SearchResult beyond = this.questionSearchIndex.search("청설모", Integer.MAX_VALUE / 2, 10);
+		assertTrue(beyond.getHits().isEmpty());
+		assertThrows(IllegalArgumentException.class, () -> this.questionSearchIndex.search("청설모", -1, 10));
+
+		for (int i = 0; i < QuestionSearchIndex.MAX_RESULTS + 5; i++) {
+			this.questionSearchIndex.delete(2_000_010_000 + i);
+		}
+		this.questionSearchIndex.refresh();
+	}
+
+	@Test
+	void 잘못된_검색_페이지_요청() throws Exception {
+		this.mockMvc.perform(get("/question/list").param("kw", "아무거나").param("page", "-1"))
+				.andExpect(status().isBadRequest());
+		this.mockMvc.perform(get("/question/list").param("kw", "아무거나").param("page", String.valueOf(Integer.MAX_VALUE)))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void 하이라이트는_HTML_을_인코딩하고_mark_만_추가() {
+		this.questionSearchIndex.update(2_000_000_200, "<script>alert(1)</script> 너구리",
+				"<img src=x onerror=alert(1)> 너구리 본문", null, List.of());
+		this.questionSearchIndex.refresh();
+
+		SearchHit hit = this.questionSearchIndex.search("너구리", 0, 10).getHits().get(0);
+
+		assertTrue(hit.getSubjectHighlight().contains("<mark>"));
+		assertTrue(hit.getSubjectHighlight().contains("&lt;script&gt;"));
+		assertFalse(hit.getSubjectHighlight().contains("<script>"));
+		assertTrue(hit.getSnippet().contains("&lt;img"));
+		assertFalse(hit.getSnippet().contains("<img"));
+	}
+
+	@Test
+	void 제목에_없는_검색어는_제목_하이라이트가_없음() {
+		this.questionSearchIndex.update(2_000_000_300, "평범한 제목", "본문에만 두루미", null, List.of());
+		this.questionSearchIndex.refresh();
+
+		SearchHit hit = this.questionSearchIndex.search("두루미", 0, 10).getHits().get(0);
+
+		assertNull(hit.getSubjectHighlight());
+		assertTrue(hit.getSnippet().contains("<mark>"));
+	}
+
+	@Test
+	void 질문_등록_수정_삭제가_커밋_후_색인에_반영() throws Exception {
+		this.questionService.create("<b>수달</b> 등록", "내용", this.author);
+		await(() -> hits("수달") == 1);
+		Integer id = this.questionSearchIndex.search("수달", 0, 1).getHits().get(0).getQuestionId();
+
+		// 목록 화면은 하이라이트를 th:utext 로 출력하므로 사용자가 입력한 태그는 인코딩되어야 합니다.
+		this.mockMvc.perform(get("/question/list").param("kw", "수달"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(containsString("&lt;b&gt;")))
+				.andExpect(content().string(not(containsString("<b>수달"))));
+
+		this.questionService.modify(id, "해달 수정", "내용");
+		await(() -> hits("해달") == 1 && hits("수달") == 0);
+
+		this.questionService.delete(id);
+		await(() -> hits("해달") == 0);
+	}
+
+	@Test
+	void 전체_재색인은_DB_기준으로_다시_만든다() {
+		Question q = new Question();
+		q.setSubject("재색인 물개");
+		q.setContent("내용");
+		q.setCreateDate(LocalDateTime.now());
+		q.setAuthor(this.author);
+		this.questionRepository.save(q); // 서비스를 거치지 않아 색인되지 않은 질문
+		this.questionSearchIndex.update(2_000_000_400, "DB 에 없는 물개", "내용", null, List.of());
+		this.questionSearchIndex.refresh();
+
+		this.questionIndexer.reindexAll();
+
+		SearchResult result = this.questionSearchIndex.search("물개", 0, 10);
+		assertEquals(1, result.getTotalHits());
+		assertEquals(q.getId(), result.getHits().get(0).getQuestionId());
+		assertEquals(this.questionRepository.count(), this.questionSearchIndex.count());
+	}
+
+	private long hits(String keyword) {
+		this.questionSearchIndex.refresh();
+		return this.questionSearchIndex.search(keyword, 0, 10).getTotalHits();
+	}
+
+	// 색인은 커밋 후 별도 스레드에서 갱신되므로 조건이 맞을 때까지 잠시 기다립니다.
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			assertFalse(System.currentTimeMillis() > deadline, "condition not met in time");
+			Thread.sleep(20);
+		}
+	}
+}
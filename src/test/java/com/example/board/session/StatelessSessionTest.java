@@ -0,0 +1,114 @@
+package com.example.board.session;
+
+import com.example.board.user.UserRepository;
+import com.example.board.user.UserService;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrlPattern;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 무상태 세션 모드: 로그인 정보가 서명된 쿠키로만 전달되고 HttpSession 을 만들지 않는지 확인합니다.
+@SpringBootTest(properties = "board.session.secret=MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=")
+@AutoConfigureMockMvc
+@ActiveProfiles({"test", "stateless"})
+class StatelessSessionTest {
+
+	private static final String COOKIE = "BOARD_SESSION";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private SessionRevocations sessionRevocations;
+
+	@BeforeEach
+	void setUp() {
+		if (this.userRepository.findByusername("stateless-user").isEmpty()) {
+			this.userService.create("stateless-user", "stateless-user@example.com", "password");
+		}
+	}
+
+	@Test
+	void 로그인하면_세션_없이_서명된_쿠키로_인증() throws Exception {
+		MvcResult login = login();
+		Cookie session = login.getResponse().getCookie(COOKIE);
+		assertNotNull(session);
+		assertTrue(session.isHttpOnly());
+		assertNull(login.getRequest().getSession(false)); // HttpSession 을 만들지 않음
+
+		// 로그인이 필요한 화면을 쿠키만으로 열 수 있음
+		this.mockMvc.perform(get("/question/create").cookie(session))
+				.andExpect(status().isOk());
+		this.mockMvc.perform(get("/question/create"))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(redirectedUrlPattern("**/user/login"));
+	}
+
+	@Test
+	void 변조된_쿠키는_거절() throws Exception {
+		String value = login().getResponse().getCookie(COOKIE).getValue();
+		String payload = value.substring(0, value.indexOf('.'));
+		String tampered = payload.substring(0, payload.length() - 1) + (payload.endsWith("A") ? "B" : "A")
+				+ value.substring(value.indexOf('.'));
+
+		this.mockMvc.perform(get("/question/create").cookie(new Cookie(COOKIE, tampered)))
+				.andExpect(status().is3xxRedirection());
+	}
+
+	@Test
+	void 로그아웃하면_토큰이_폐기됨() throws Exception {
+		Cookie session = login().getResponse().getCookie(COOKIE);
+
+		MvcResult logout = this.mockMvc.perform(get("/user/logout").cookie(session))
+				.andExpect(status().is3xxRedirection())
+				.andReturn();
+		assertEquals(0, logout.getResponse().getCookie(COOKIE).getMaxAge()); // 쿠키 삭제
+
+		// 쿠키를 지우지 않은(또는 복사해 둔) 클라이언트가 다시 보내도 거절
+		this.mockMvc.perform(get("/question/create").cookie(session))
+				.andExpect(status().is3xxRedirection());
+		// DB 에서 다시 읽어와도 폐기 목록에 남아 있음 (다른 노드도 같은 목록을 읽음)
+		this.sessionRevocations.refresh();
+		this.mockMvc.perform(get("/question/create").cookie(session))
+				.andExpect(status().is3xxRedirection());
+	}
+
+	@Test
+	void CSRF_토큰_없는_POST_는_거절() throws Exception {
+		Cookie session = login().getResponse().getCookie(COOKIE);
+
+		this.mockMvc.perform(post("/question/create").cookie(session)
+						.param("subject", "제목").param("content", "내용"))
+				.andExpect(status().isForbidden());
+	}
+
+	private MvcResult login() throws Exception {
+		return this.mockMvc.perform(post("/user/login").with(csrf())
+						.param("username", "stateless-user").param("password", "password"))
+				.andExpect(status().is3xxRedirection())
+				.andExpect(redirectedUrl("/"))
+				.andReturn();
+	}
+}
@@ -0,0 +1,119 @@
+package com.example.board.transfer;
+
+import com.example.board.Answer.Answer;
+import com.example.board.Answer.AnswerRepository;
+import com.example.board.Question.Question;
+import com.example.board.Question.QuestionRepository;
+import com.example.board.user.SiteUser;
+import com.example.board.user.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class BoardTransferTest {
+
+	@Autowired
+	private BoardExporter boardExporter;
+
+	@Autowired
+	private BoardImporter boardImporter;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private AnswerRepository answerRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void 내보낸_파일을_다시_가져오기(@TempDir Path dir) throws Exception {
+		SiteUser author = new SiteUser();
+		author.setUsername("transfer-user");
+		author.setEmail("transfer-user@example.com");
+		author.setPassword("password");
+		this.userRepository.save(author);
+		for (int i = 1; i <= 3; i++) {
+			Question q = new Question();
+			q.setSubject("옮기기 테스트 " + i);
+			q.setContent("내용 " + i);
+			q.setCreateDate(LocalDateTime.now());
+			q.setAuthor(author);
+			q.setAnswerCount(2);
+			this.questionRepository.save(q);
+			for (int j = 1; j <= 2; j++) {
+				Answer a = new Answer();
+				a.setContent("답변 " + j);
+				a.setCreateDate(LocalDateTime.now());
+				a.setQuestion(q);
+				a.setAuthor(author);
+				this.answerRepository.save(a);
+			}
+		}
+		long questions = this.questionRepository.count();
+		long answers = this.answerRepository.count();
+
+		Path file = dir.resolve("board.ndjson");
+		assertEquals(questions, this.boardExporter.exportTo(file));
+		assertEquals(questions, Files.readAllLines(file).stream().filter(line -> !line.isBlank()).count());
+
+		// 가져오면 질문과 답변이 한 벌 더 생깁니다.
+		assertEquals(questions, this.boardImporter.importFrom(file));
+		assertEquals(questions * 2, this.questionRepository.count());
+		assertEquals(answers * 2, this.answerRepository.count());
+
+		// 체크포인트가 남아 있으므로 같은 파일을 다시 가져와도 중복으로 저장하지 않습니다.
+		assertEquals(0, this.boardImporter.importFrom(file));
+		assertEquals(questions * 2, this.questionRepository.count());
+	}
+
+	@Test
+	void 없는_작성자는_줄_번호와_함께_중단(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("missing.ndjson");
+		Files.write(file, List.of(
+				"{\"subject\":\"없는 작성자 1\",\"content\":\"내용\"}",
+				"{\"subject\":\"없는 작성자 2\",\"content\":\"내용\",\"author\":\"missing-author-fail\"}"));
+		long questions = this.questionRepository.count();
+
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> this.boardImporter.importFrom(file, BoardImporter.MissingAuthor.FAIL));
+		assertTrue(e.getMessage().contains("line 2"));
+		// chunk 전체와 체크포인트가 함께 롤백되어 다시 실행하면 처음부터 가져옵니다.
+		assertEquals(questions, this.questionRepository.count());
+		assertEquals(2, this.boardImporter.importFrom(file, BoardImporter.MissingAuthor.NONE));
+		assertEquals(questions + 2, this.questionRepository.count());
+		assertFalse(this.userRepository.findByusername("missing-author-fail").isPresent());
+	}
+
+	@Test
+	void 없는_작성자는_자리표시_사용자로_연결(@TempDir Path dir) throws Exception {
+		Path file = dir.resolve("placeholder.ndjson");
+		Files.write(file, List.of(
+				"{\"subject\":\"자리표시 1\",\"content\":\"내용\",\"author\":\"missing-author-placeholder\","
+						+ "\"answers\":[{\"content\":\"답변\",\"author\":\"missing-author-placeholder\"}]}",
+				"{\"subject\":\"자리표시 2\",\"content\":\"내용\",\"author\":\"missing-author-placeholder\"}"));
+
+		assertEquals(2, this.boardImporter.importFrom(file, BoardImporter.MissingAuthor.PLACEHOLDER));
+		SiteUser placeholder = this.userRepository.findByusername("missing-author-placeholder").orElseThrow();
+		List<Question> imported = this.questionRepository.findAll().stream()
+				.filter(q -> q.getSubject().startsWith("자리표시 "))
+				.toList();
+		assertEquals(2, imported.size());
+		imported.forEach(q -> assertEquals(placeholder.getId(), q.getAuthor().getId()));
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.board.user;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PooledPasswordEncoderTest {
+
+	@Test
+	void 전용_풀에서_해시하고_검증() {
+		PooledPasswordEncoder encoder = new PooledPasswordEncoder(4, 1, 4, Duration.ofSeconds(5));
+		try {
+			String encoded = encoder.encode("password");
+			assertTrue(encoder.matches("password", encoded));
+			assertFalse(encoder.matches("wrong", encoded));
+		} finally {
+			encoder.close();
+		}
+	}
+
+	@Test
+	void cost_가_바뀌면_재해시_대상() {
+		PooledPasswordEncoder encoder = new PooledPasswordEncoder(5, 1, 4, Duration.ofSeconds(5));
+		try {
+			assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+			assertFalse(encoder.upgradeEncoding(encoder.encode("password")));
+		} finally {
+			encoder.close();
+		}
+	}
+}
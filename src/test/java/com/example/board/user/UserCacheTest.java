@@ -0,0 +1,42 @@
+package com.example.board.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserCacheTest {
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserSecurityService userSecurityService;
+
+	@Test
+	void 로그인_사용자_조회는_캐시에서_응답() {
+		this.userService.create("cache-user", "cache-user@example.com", "password");
+		Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		UserDetails first = this.userSecurityService.loadUserByUsername("cache-user");
+		UserDetails second = this.userSecurityService.loadUserByUsername("cache-user");
+
+		// 처음 한 번만 DB 를 조회하고, 이후에는 캐시에서 새 UserDetails 를 만들어 반환합니다.
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(first.getPassword(), second.getPassword());
+		assertNotNull(second.getPassword());
+	}
+}